@@ -6,6 +6,7 @@ import io.wispforest.accessories.client.AccessoriesMenu;
 import io.wispforest.accessories.compat.AccessoriesConfig;
 import io.wispforest.accessories.criteria.AccessoryChangedCriterion;
 import io.wispforest.accessories.mixin.CriteriaTriggersAccessor;
+import io.wispforest.accessories.networking.AccessoriesSyncing;
 import me.shedaniel.autoconfig.AutoConfig;
 import me.shedaniel.autoconfig.ConfigHolder;
 import me.shedaniel.autoconfig.serializer.JanksonConfigSerializer;
@@ -58,6 +59,8 @@ public class Accessories {
             var result = AllowEntityModificationCallback.EVENT.invoker().allowModifications(targetEntity, player, null);
 
             if(!result.orElse(false)) return;
+
+            if(targetEntity != player && player instanceof ServerPlayer serverPlayer) AccessoriesSyncing.sendFullState(serverPlayer, targetEntity);
         }
 
         AccessoriesInternals.openAccessoriesMenu(player, targetEntity, carriedStack);
@@ -11,12 +11,19 @@ import io.wispforest.accessories.api.data.AccessoriesBaseData;
 import io.wispforest.accessories.api.events.AdjustAttributeModifierCallback;
 import io.wispforest.accessories.api.events.CanEquipCallback;
 import io.wispforest.accessories.api.events.CanUnequipCallback;
+import io.wispforest.accessories.api.events.extra.ExtraEventType;
 import io.wispforest.accessories.api.slot.*;
 import io.wispforest.accessories.data.EntitySlotLoader;
 import io.wispforest.accessories.data.SlotTypeLoader;
 import io.wispforest.accessories.impl.AccessoryNestUtils;
+import io.wispforest.accessories.impl.AttributeModifierCache;
+import io.wispforest.accessories.impl.SlotTypeImpl;
+import io.wispforest.accessories.impl.SlotValidationIndex;
 import io.wispforest.accessories.networking.client.AccessoryBreak;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.fabricmc.fabric.api.util.TriState;
+import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
@@ -74,6 +81,8 @@ public class AccessoriesAPI {
 
     private static final Map<Item, Accessory> REGISTER = new HashMap<>();
 
+    private static final Reference2IntMap<Accessory> EXTRA_EVENT_MASKS = Util.make(new Reference2IntOpenHashMap<>(), map -> map.defaultReturnValue(-1));
+
     @ApiStatus.Internal
     public static Map<Item, Accessory> getAllAccessories() {
         return Collections.unmodifiableMap(REGISTER);
@@ -86,6 +95,18 @@ public class AccessoriesAPI {
      */
     public static void registerAccessory(Item item, Accessory accessory) {
         REGISTER.put(item, accessory);
+
+        EXTRA_EVENT_MASKS.put(accessory, ExtraEventType.classify(accessory));
+    }
+
+    /**
+     * @return Bitmask of the {@link ExtraEventType}s the given accessory implements, classified on registration
+     */
+    @ApiStatus.Internal
+    public static int getExtraEventMask(Accessory accessory) {
+        var mask = EXTRA_EVENT_MASKS.getInt(accessory);
+
+        return (mask != -1) ? mask : ExtraEventType.classify(accessory);
     }
 
     /**
@@ -166,9 +187,44 @@ public class AccessoriesAPI {
 
     /**
      * Attempts to get any at all AttributeModifier's found on the stack either though NBT or the Accessory bound
-     * to the {@link ItemStack}'s item
+     * to the {@link ItemStack}'s item. The result is cached until the components or count of the stack change unless
+     * disabled by {@link Accessory#cacheAttributeModifiers} or {@link AdjustAttributeModifierCallback#cacheAttributeModifiers}
      */
     public static AccessoryAttributeBuilder getAttributeModifiers(ItemStack stack, @Nullable LivingEntity entity, String slotName, int slot, boolean hideTooltipIfDisabled){
+        if (stack.isEmpty() || !canCacheAttributeModifiers(stack)) return getUncachedAttributeModifiers(stack, entity, slotName, slot, hideTooltipIfDisabled);
+
+        var cachedBuilder = AttributeModifierCache.get(stack, entity, slotName, slot, hideTooltipIfDisabled);
+
+        if (cachedBuilder != null) return cachedBuilder;
+
+        var builder = getUncachedAttributeModifiers(stack, entity, slotName, slot, hideTooltipIfDisabled);
+
+        AttributeModifierCache.put(stack, entity, slotName, slot, hideTooltipIfDisabled, builder);
+
+        return builder;
+    }
+
+    /**
+     * Same as {@link #getAttributeModifiers(ItemStack, LivingEntity, String, int, boolean)} but will always resolve the modifiers
+     * instead of using any previously cached result
+     */
+    public static AccessoryAttributeBuilder getUncachedAttributeModifiers(ItemStack stack, @Nullable LivingEntity entity, String slotName, int slot, boolean hideTooltipIfDisabled){
+        var builder = gatherComponentAttributeModifiers(stack, entity, slotName, slot, hideTooltipIfDisabled);
+
+        if(entity != null) addDynamicAttributeModifiers(stack, SlotReference.of(entity, slotName, slot), builder);
+
+        return builder;
+    }
+
+    private static boolean canCacheAttributeModifiers(ItemStack stack) {
+        var accessory = AccessoriesAPI.getAccessory(stack);
+
+        if (accessory != null && !accessory.cacheAttributeModifiers(stack)) return false;
+
+        return AdjustAttributeModifierCallback.EVENT.invoker().cacheAttributeModifiers(stack);
+    }
+
+    private static AccessoryAttributeBuilder gatherComponentAttributeModifiers(ItemStack stack, @Nullable LivingEntity entity, String slotName, int slot, boolean hideTooltipIfDisabled){
         var builder = new AccessoryAttributeBuilder();
 
         var slotReference = SlotReference.of(entity, slotName, slot);
@@ -183,16 +239,16 @@ public class AccessoriesAPI {
             builder.addFrom(innerBuilder);
         });
 
-        if(entity != null) {
-            //TODO: Decide if the presence of modifiers prevents the accessory modifiers from existing
-            var accessory = AccessoriesAPI.getAccessory(stack);
+        return builder;
+    }
 
-            if(accessory != null) accessory.getDynamicModifiers(stack, slotReference, builder);
+    private static void addDynamicAttributeModifiers(ItemStack stack, SlotReference slotReference, AccessoryAttributeBuilder builder){
+        //TODO: Decide if the presence of modifiers prevents the accessory modifiers from existing
+        var accessory = AccessoriesAPI.getAccessory(stack);
 
-            AdjustAttributeModifierCallback.EVENT.invoker().adjustAttributes(stack, slotReference, builder);
-        }
+        if(accessory != null) accessory.getDynamicModifiers(stack, slotReference, builder);
 
-        return builder;
+        AdjustAttributeModifierCallback.EVENT.invoker().adjustAttributes(stack, slotReference, builder);
     }
 
     public static void addAttribute(ItemStack stack, String slotName, Holder<Attribute> attribute, ResourceLocation location, double amount, AttributeModifier.Operation operation, boolean isStackable) {
@@ -232,7 +288,9 @@ public class AccessoriesAPI {
             throw new IllegalStateException("Unable to get the needed SlotType from the SlotReference passed within `canInsertIntoSlot`! [Name: " + reference.slotName() + "]");
         }
 
-        return getPredicateResults(slotType.validators(), reference.entity().level(), slotType, 0, stack) && canEquip(stack, reference);
+        var level = reference.entity().level();
+
+        return SlotValidationIndex.get(level).isValid(level, slotType, stack) && canEquip(stack, reference);
     }
 
     /**
@@ -279,19 +337,22 @@ public class AccessoriesAPI {
         if(capability != null) {
             var containers = capability.getContainers();
 
-            for (SlotType value : slots.values()) {
-                if (!containers.containsKey(value.name())) continue;
+            var level = entity.level();
 
+            // Only slots passing the static validators need to go through the dynamic equip checks
+            for (SlotType value : SlotValidationIndex.get(level).filterValid(level, slots.values(), stack)) {
                 var container = containers.get(value.name());
 
-                var size = containers.get(value.name()).getSize();
+                if (container == null) continue;
+
+                var size = container.getSize();
 
                 if(size == 0) size = 1;
 
                 for (int i = 0; i < size; i++) {
                     var reference = SlotReference.of(entity, container.getSlotName(), i);
 
-                    if (canInsertIntoSlot(stack, reference)) validSlots.add(value);
+                    if (canEquip(stack, reference)) validSlots.add(value);
                 }
             }
         }
@@ -300,13 +361,7 @@ public class AccessoriesAPI {
     }
 
     public static Collection<SlotType> getStackSlotTypes(Level level, ItemStack stack){
-        var validSlots = new ArrayList<SlotType>();
-
-        for (SlotType value : SlotTypeLoader.getSlotTypes(level).values()) {
-            if(getPredicateResults(value.validators(), level, value, 0, stack)) validSlots.add(value);
-        }
-
-        return validSlots;
+        return SlotValidationIndex.get(level).filterValid(level, SlotTypeLoader.getSlotTypes(level).values(), stack);
     }
 
     public static Collection<SlotType> getUsedSlotsFor(Player player) {
@@ -386,6 +441,24 @@ public class AccessoriesAPI {
         return result.orElse(false);
     }
 
+    /**
+     * Checks the given stack against the validators of the passed {@link SlotType} using the predicates resolved
+     * when the slot type was loaded if possible
+     */
+    public static boolean getPredicateResults(SlotType slotType, Level level, int index, ItemStack stack){
+        if (!(slotType instanceof SlotTypeImpl slotTypeImpl)) return getPredicateResults(slotType.validators(), level, slotType, index, stack);
+
+        var result = TriState.DEFAULT;
+
+        for (var predicate : slotTypeImpl.predicates()) {
+            result = predicate.isValid(level, slotType, index, stack);
+
+            if(result != TriState.DEFAULT) break;
+        }
+
+        return result.orElse(false);
+    }
+
     /**
      * @deprecated Use {@link #ANY_ACCESSORIES} instead!
      */
@@ -398,7 +471,14 @@ public class AccessoriesAPI {
     public static final TagKey<Item> ANY_ACCESSORIES = TagKey.create(Registries.ITEM, Accessories.of("any"));
 
     public static TagKey<Item> getSlotTag(SlotType slotType) {
-        var location = UniqueSlotHandling.isUniqueSlot(slotType.name()) ? ResourceLocation.parse(slotType.name()) : Accessories.of(slotType.name());
+        if (slotType instanceof SlotTypeImpl slotTypeImpl) return slotTypeImpl.slotTag();
+
+        return createSlotTag(slotType.name());
+    }
+
+    @ApiStatus.Internal
+    public static TagKey<Item> createSlotTag(String slotName) {
+        var location = UniqueSlotHandling.isUniqueSlot(slotName) ? ResourceLocation.parse(slotName) : Accessories.of(slotName);
 
         return TagKey.create(Registries.ITEM, location);
     }
@@ -6,6 +6,7 @@ import io.wispforest.accessories.api.components.AccessoryItemAttributeModifiers;
 import io.wispforest.accessories.api.slot.SlotReference;
 import io.wispforest.accessories.api.slot.SlotType;
 import io.wispforest.accessories.impl.AccessoriesEventHandler;
+import io.wispforest.accessories.impl.AccessoryTicking;
 import io.wispforest.accessories.mixin.LivingEntityAccessor;
 import io.wispforest.accessories.networking.client.AccessoryBreak;
 import net.minecraft.network.chat.Component;
@@ -29,13 +30,25 @@ import java.util.List;
 public interface Accessory {
 
     /**
-     * Called on every tick of the wearing {@link LivingEntity} on both client and server.
+     * Called on every tick of the wearing {@link LivingEntity} on both client and server or at
+     * the interval specified by {@link #tickInterval}.
      *
      * @param stack the stack being ticked
      * @param reference the slot the accessory is in
      */
     default void tick(ItemStack stack, SlotReference reference){}
 
+    /**
+     * Used to declare how often {@link #tick} should be called for the given stack. By default accessories that
+     * override {@link #tick} will be ticked every tick while all others are never ticked.
+     *
+     * @param stack the stack to be ticked
+     * @return the interval in ticks between calls to {@link #tick} or a value of 0 or below to not tick at all
+     */
+    default int tickInterval(ItemStack stack) {
+        return AccessoryTicking.overridesTick(this) ? 1 : 0;
+    }
+
     /**
      * Called when the accessory is equipped
      *
@@ -86,6 +99,17 @@ public interface Accessory {
         getModifiers(stack, reference, builder);
     }
 
+    /**
+     * Whether the modifiers resolved for the given stack by {@link AccessoriesAPI#getAttributeModifiers}, including those
+     * from {@link #getDynamicModifiers}, can be cached until its components or count change. Should return false if the
+     * dynamic modifiers depend on any other state such as that of the entity.
+     *
+     * @param stack The given stack to check
+     */
+    default boolean cacheAttributeModifiers(ItemStack stack) {
+        return true;
+    }
+
     /**
      * Helper method used to fill the passed {@link AccessoryItemAttributeModifiers.Builder} when called to modify
      * the given default {@link AccessoriesDataComponents#ATTRIBUTES} right before Registry freeze occurs. This is
@@ -14,6 +14,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * Builder used to collect the attribute modifications from a given Accessory with the ability
@@ -171,6 +172,19 @@ public final class AccessoryAttributeBuilder {
         return map;
     }
 
+    /**
+     * Passes every modifier within the builder to the given consumer without building any intermediate collections,
+     * with stackable modifiers having their slot information already appended
+     */
+    @ApiStatus.Internal
+    public void forEachModifier(BiConsumer<Holder<Attribute>, AttributeModifier> consumer) {
+        for (var innerMap : this.exclusiveAttributes.values()) {
+            for (var data : innerMap.values()) consumer.accept(data.attribute(), data.modifier());
+        }
+
+        for (var data : this.stackedAttributes.values()) consumer.accept(data.attribute(), data.modifier());
+    }
+
     public boolean isEmpty() {
         return this.exclusiveAttributes.isEmpty() && this.stackedAttributes.isEmpty();
     }
@@ -183,6 +197,19 @@ public final class AccessoryAttributeBuilder {
         return ImmutableMultimap.copyOf(this.stackedAttributes);
     }
 
+    /**
+     * @return A copy of the builder that can be mutated without affecting this builder
+     */
+    @ApiStatus.Internal
+    public AccessoryAttributeBuilder copy() {
+        var builder = new AccessoryAttributeBuilder(this.slotReference);
+
+        this.exclusiveAttributes.forEach((attribute, innerMap) -> builder.exclusiveAttributes.put(attribute, new HashMap<>(innerMap)));
+        builder.stackedAttributes.putAll(this.stackedAttributes);
+
+        return builder;
+    }
+
     public AccessoryAttributeBuilder addFrom(AccessoryAttributeBuilder builder) {
         builder.exclusiveAttributes.forEach(this.exclusiveAttributes::putIfAbsent);
         this.stackedAttributes.putAll(builder.stackedAttributes);
@@ -5,7 +5,7 @@ import io.wispforest.accessories.api.Accessory;
 import io.wispforest.accessories.api.events.SlotStateChange;
 import io.wispforest.accessories.api.slot.SlotEntryReference;
 import io.wispforest.accessories.api.slot.SlotReference;
-import io.wispforest.accessories.endec.CodecUtils;
+import io.wispforest.accessories.endec.MinecraftEndecs;
 import io.wispforest.accessories.impl.AccessoryNestUtils;
 import io.wispforest.endec.Endec;
 import io.wispforest.endec.impl.StructEndecBuilder;
@@ -19,7 +19,7 @@ public final class AccessoryNestContainerContents {
     public static final AccessoryNestContainerContents EMPTY = new AccessoryNestContainerContents(List.of());
 
     public static final Endec<AccessoryNestContainerContents> ENDEC = StructEndecBuilder.of(
-            CodecUtils.toEndec(ItemStack.OPTIONAL_CODEC).listOf().fieldOf("accessories", AccessoryNestContainerContents::accessories),
+            MinecraftEndecs.OPTIONAL_ITEM_STACK.listOf().fieldOf("accessories", AccessoryNestContainerContents::accessories),
             AccessoryNestContainerContents::new
     );
 
@@ -16,14 +16,26 @@ import net.minecraft.world.item.ItemStack;
 public interface AdjustAttributeModifierCallback {
 
     Event<AdjustAttributeModifierCallback> EVENT = EventFactory.createArrayBacked(AdjustAttributeModifierCallback.class,
-            (invokers) -> (stack, reference, builder) -> {
-                AccessoryNestUtils.recursiveStackConsumption(stack, reference, (stack1, reference1) -> {
-                    var innerBuilder = new AccessoryAttributeBuilder(reference1);
+            (invokers) -> new AdjustAttributeModifierCallback() {
+                @Override
+                public void adjustAttributes(ItemStack stack, SlotReference reference, AccessoryAttributeBuilder builder) {
+                    AccessoryNestUtils.recursiveStackConsumption(stack, reference, (stack1, reference1) -> {
+                        var innerBuilder = new AccessoryAttributeBuilder(reference1);
 
-                    for (var invoker : invokers) invoker.adjustAttributes(stack1, reference1, innerBuilder);
+                        for (var invoker : invokers) invoker.adjustAttributes(stack1, reference1, innerBuilder);
 
-                    builder.addFrom(innerBuilder);
-                });
+                        builder.addFrom(innerBuilder);
+                    });
+                }
+
+                @Override
+                public boolean cacheAttributeModifiers(ItemStack stack) {
+                    for (var invoker : invokers) {
+                        if (!invoker.cacheAttributeModifiers(stack)) return false;
+                    }
+
+                    return true;
+                }
             }
     );
 
@@ -33,4 +45,15 @@ public interface AdjustAttributeModifierCallback {
      * @param builder   The builder containing the to be applied attributes modifications
      */
     void adjustAttributes(ItemStack stack, SlotReference reference, AccessoryAttributeBuilder builder);
+
+    /**
+     * Whether the adjustments made by this callback for the given stack can be cached alongside the rest of the resolved
+     * modifiers until the components or count of the stack change. Should return false if the adjustments depend on
+     * any other state such as that of the entity.
+     *
+     * @param stack The specific stack being evaluated
+     */
+    default boolean cacheAttributeModifiers(ItemStack stack) {
+        return true;
+    }
 }
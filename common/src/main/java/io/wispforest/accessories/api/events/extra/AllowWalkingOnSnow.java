@@ -19,14 +19,18 @@ import net.minecraft.world.level.block.PowderSnowBlock;
  */
 public interface AllowWalkingOnSnow {
 
-    Event<AllowWalkingOnSnow> EVENT = EventFactory.createArrayBacked(AllowWalkingOnSnow.class, invokers -> (stack, reference) -> {
-        for (var invoker : invokers) {
-            var state = invoker.allowWalkingOnSnow(stack, reference);
+    Event<AllowWalkingOnSnow> EVENT = EventFactory.createArrayBacked(AllowWalkingOnSnow.class, invokers -> {
+        ExtraEventType.ALLOW_WALKING_ON_SNOW.updateListeners(invokers);
 
-            if(state != TriState.DEFAULT) return state;
-        }
+        return (stack, reference) -> {
+            for (var invoker : invokers) {
+                var state = invoker.allowWalkingOnSnow(stack, reference);
 
-        return TriState.DEFAULT;
+                if(state != TriState.DEFAULT) return state;
+            }
+
+            return TriState.DEFAULT;
+        };
     });
 
     /**
@@ -19,14 +19,18 @@ import net.minecraft.world.item.ItemStack;
  */
 public interface EndermanMasked {
 
-    Event<EndermanMasked> EVENT = EventFactory.createArrayBacked(EndermanMasked.class, invokers -> (enderMan, stack, reference) -> {
-        for (var invoker : invokers) {
-            var state = invoker.isEndermanMasked(enderMan, stack, reference);
+    Event<EndermanMasked> EVENT = EventFactory.createArrayBacked(EndermanMasked.class, invokers -> {
+        ExtraEventType.ENDERMAN_MASKED.updateListeners(invokers);
 
-            if(state != TriState.DEFAULT) return state;
-        }
+        return (enderMan, stack, reference) -> {
+            for (var invoker : invokers) {
+                var state = invoker.isEndermanMasked(enderMan, stack, reference);
 
-        return TriState.DEFAULT;
+                if(state != TriState.DEFAULT) return state;
+            }
+
+            return TriState.DEFAULT;
+        };
     });
 
     /**
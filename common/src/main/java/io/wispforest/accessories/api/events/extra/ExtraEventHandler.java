@@ -1,10 +1,8 @@
 package io.wispforest.accessories.api.events.extra;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import io.wispforest.accessories.api.AccessoriesAPI;
 import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.impl.AccessoriesCapabilityImpl;
+import io.wispforest.accessories.impl.ExtraEventQueryCache;
 import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
@@ -12,10 +10,6 @@ import net.minecraft.world.entity.monster.EnderMan;
 import net.minecraft.world.level.storage.loot.LootContext;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Choice Events implemented for use on {@link io.wispforest.accessories.api.Accessory} when needed
  */
@@ -26,17 +20,24 @@ public class ExtraEventHandler {
             var capability = AccessoriesCapability.get(entity);
 
             if(capability != null){
-                for (var entryRef : capability.getAllEquipped()) {
+                var index = ((AccessoriesCapabilityImpl) capability).getEquippedIndex();
+
+                if (!index.requiresEvent(ExtraEventType.LOOTING_ADJUSTMENT)) return currentLevel;
+
+                var hasListeners = ExtraEventType.LOOTING_ADJUSTMENT.hasListeners();
+
+                for (int i = 0; i < index.size(); i++) {
+                    var entryRef = index.entry(i);
                     var reference = entryRef.reference();
                     var stack = entryRef.stack();
 
-                    var accessory = AccessoriesAPI.getOrDefaultAccessory(stack);
+                    var accessory = index.accessory(i);
 
                     if(accessory instanceof LootingAdjustment lootingAdjustment){
                         currentLevel += lootingAdjustment.getLootingAdjustment(stack, reference, targetEntity, damageSource, currentLevel);
                     }
 
-                    currentLevel += LootingAdjustment.EVENT.invoker().getLootingAdjustment(stack, reference, targetEntity, damageSource, currentLevel);
+                    if (hasListeners) currentLevel += LootingAdjustment.EVENT.invoker().getLootingAdjustment(stack, reference, targetEntity, damageSource, currentLevel);
                 }
             }
         }
@@ -49,17 +50,24 @@ public class ExtraEventHandler {
             var capability = AccessoriesCapability.get(livingEntity);
 
             if (capability != null) {
-                for (var entryRef : capability.getAllEquipped()) {
+                var index = ((AccessoriesCapabilityImpl) capability).getEquippedIndex();
+
+                if (!index.requiresEvent(ExtraEventType.FORTUNE_ADJUSTMENT)) return currentLevel;
+
+                var hasListeners = ExtraEventType.FORTUNE_ADJUSTMENT.hasListeners();
+
+                for (int i = 0; i < index.size(); i++) {
+                    var entryRef = index.entry(i);
                     var reference = entryRef.reference();
                     var stack = entryRef.stack();
 
-                    var accessory = AccessoriesAPI.getOrDefaultAccessory(stack);
+                    var accessory = index.accessory(i);
 
                     if (accessory instanceof FortuneAdjustment fortuneAdjustment) {
                         currentLevel += fortuneAdjustment.getFortuneAdjustment(stack, reference, context, currentLevel);
                     }
 
-                    currentLevel += FortuneAdjustment.EVENT.invoker().getFortuneAdjustment(stack, reference, context, currentLevel);
+                    if (hasListeners) currentLevel += FortuneAdjustment.EVENT.invoker().getFortuneAdjustment(stack, reference, context, currentLevel);
                 }
             }
         }
@@ -67,97 +75,106 @@ public class ExtraEventHandler {
         return currentLevel;
     }
 
-    public static TriState isPiglinsNeutral(LivingEntity entity){
-        var state = TriState.DEFAULT;
+    private static final ExtraEventQueryCache<TriState> PIGLIN_NEUTRAL_RESULTS = new ExtraEventQueryCache<>();
+    private static final ExtraEventQueryCache<TriState> WALKING_ON_SNOW_RESULTS = new ExtraEventQueryCache<>();
+    private static final ExtraEventQueryCache<TriState> ENDERMAN_MASKED_RESULTS = new ExtraEventQueryCache<>();
 
+    public static TriState isPiglinsNeutral(LivingEntity entity){
         var capability = AccessoriesCapability.get(entity);
 
-        if(capability != null){
-            for (var entryRef : capability.getAllEquipped()) {
-                var reference = entryRef.reference();
-                var stack = entryRef.stack();
+        if(capability == null) return TriState.DEFAULT;
 
-                var accessory = AccessoriesAPI.getOrDefaultAccessory(stack);
+        var index = ((AccessoriesCapabilityImpl) capability).getEquippedIndex();
 
-                if(accessory instanceof PiglinNeutralInducer inducer){
-                    state = inducer.makePiglinsNeutral(stack, reference);
+        if (!index.requiresEvent(ExtraEventType.PIGLIN_NEUTRAL_INDUCER)) return TriState.DEFAULT;
 
-                    if(state != TriState.DEFAULT) return state;
-                }
+        var cachedState = PIGLIN_NEUTRAL_RESULTS.get(entity, ExtraEventQueryCache.NO_OTHER_ENTITY, index);
+
+        if (cachedState != null) return cachedState;
+
+        var state = TriState.DEFAULT;
+        var hasListeners = ExtraEventType.PIGLIN_NEUTRAL_INDUCER.hasListeners();
+
+        for (int i = 0; i < index.size() && state == TriState.DEFAULT; i++) {
+            var entryRef = index.entry(i);
+            var reference = entryRef.reference();
+            var stack = entryRef.stack();
 
-                state = PiglinNeutralInducer.EVENT.invoker().makePiglinsNeutral(stack, reference);
+            if(index.accessory(i) instanceof PiglinNeutralInducer inducer){
+                state = inducer.makePiglinsNeutral(stack, reference);
 
-                if(state != TriState.DEFAULT) return state;
+                if(state != TriState.DEFAULT) break;
             }
+
+            if (hasListeners) state = PiglinNeutralInducer.EVENT.invoker().makePiglinsNeutral(stack, reference);
         }
 
-        return state;
+        return PIGLIN_NEUTRAL_RESULTS.put(entity, ExtraEventQueryCache.NO_OTHER_ENTITY, index, state);
     }
 
     public static TriState allowWalkingOnSnow(LivingEntity entity){
-        var state = TriState.DEFAULT;
-
         var capability = AccessoriesCapability.get(entity);
 
-        if(capability != null){
-            for (var entryRef : capability.getAllEquipped()) {
-                var reference = entryRef.reference();
-                var stack = entryRef.stack();
+        if(capability == null) return TriState.DEFAULT;
 
-                var accessory = AccessoriesAPI.getOrDefaultAccessory(stack);
+        var index = ((AccessoriesCapabilityImpl) capability).getEquippedIndex();
 
-                if(accessory instanceof AllowWalkingOnSnow event){
-                    state = event.allowWalkingOnSnow(stack, reference);
+        if (!index.requiresEvent(ExtraEventType.ALLOW_WALKING_ON_SNOW)) return TriState.DEFAULT;
 
-                    if(state != TriState.DEFAULT) return state;
-                }
+        var cachedState = WALKING_ON_SNOW_RESULTS.get(entity, ExtraEventQueryCache.NO_OTHER_ENTITY, index);
+
+        if (cachedState != null) return cachedState;
+
+        var state = TriState.DEFAULT;
+        var hasListeners = ExtraEventType.ALLOW_WALKING_ON_SNOW.hasListeners();
+
+        for (int i = 0; i < index.size() && state == TriState.DEFAULT; i++) {
+            var entryRef = index.entry(i);
+            var reference = entryRef.reference();
+            var stack = entryRef.stack();
 
-                state = AllowWalkingOnSnow.EVENT.invoker().allowWalkingOnSnow(stack, reference);
+            if(index.accessory(i) instanceof AllowWalkingOnSnow event){
+                state = event.allowWalkingOnSnow(stack, reference);
 
-                if(state != TriState.DEFAULT) return state;
+                if(state != TriState.DEFAULT) break;
             }
+
+            if (hasListeners) state = AllowWalkingOnSnow.EVENT.invoker().allowWalkingOnSnow(stack, reference);
         }
 
-        return state;
+        return WALKING_ON_SNOW_RESULTS.put(entity, ExtraEventQueryCache.NO_OTHER_ENTITY, index, state);
     }
 
-    private static final LoadingCache<Integer, Map<Integer, TriState>> endermanAngyCacheResults = CacheBuilder.newBuilder()
-            .concurrencyLevel(1)
-            .expireAfterAccess(Duration.ofSeconds(1))
-            //.maximumSize(1000)
-            .weakKeys()
-            .build(CacheLoader.from(() -> new HashMap<>()));
-
     public static TriState isEndermanMask(LivingEntity entity, EnderMan enderMan){
-        var cache = endermanAngyCacheResults.getIfPresent(entity.getId());
+        var capability = AccessoriesCapability.get(entity);
 
-        if(cache != null && cache.containsKey(enderMan.getId())) return cache.get(enderMan.getId());
+        if(capability == null) return TriState.DEFAULT;
 
-        var state = TriState.DEFAULT;
-        var capability = AccessoriesCapability.get(entity);
+        var index = ((AccessoriesCapabilityImpl) capability).getEquippedIndex();
 
-        if(capability != null) {
-            for (var entryRef : capability.getAllEquipped()) {
-                var reference = entryRef.reference();
-                var stack = entryRef.stack();
+        if (!index.requiresEvent(ExtraEventType.ENDERMAN_MASKED)) return TriState.DEFAULT;
 
-                var accessory = AccessoriesAPI.getOrDefaultAccessory(stack);
+        var cachedState = ENDERMAN_MASKED_RESULTS.get(entity, enderMan.getId(), index);
 
-                if(accessory instanceof EndermanMasked masked){
-                    state = masked.isEndermanMasked(enderMan, stack, reference);
+        if (cachedState != null) return cachedState;
 
-                    if(state != TriState.DEFAULT) return state;
-                }
+        var state = TriState.DEFAULT;
+        var hasListeners = ExtraEventType.ENDERMAN_MASKED.hasListeners();
+
+        for (int i = 0; i < index.size() && state == TriState.DEFAULT; i++) {
+            var entryRef = index.entry(i);
+            var reference = entryRef.reference();
+            var stack = entryRef.stack();
 
-                state = EndermanMasked.EVENT.invoker().isEndermanMasked(enderMan, stack, reference);
+            if(index.accessory(i) instanceof EndermanMasked masked){
+                state = masked.isEndermanMasked(enderMan, stack, reference);
 
-                if(state != TriState.DEFAULT) return state;
+                if(state != TriState.DEFAULT) break;
             }
-        }
 
-        endermanAngyCacheResults.getUnchecked(entity.getId())
-                .put(enderMan.getId(), state);
+            if (hasListeners) state = EndermanMasked.EVENT.invoker().isEndermanMasked(enderMan, stack, reference);
+        }
 
-        return state;
+        return ENDERMAN_MASKED_RESULTS.put(entity, enderMan.getId(), index, state);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package io.wispforest.accessories.api.events.extra;
+
+import io.wispforest.accessories.api.Accessory;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Classification of the extra event interfaces an {@link Accessory} can implement used to quickly skip the
+ * {@link ExtraEventHandler} hooks when no equipped accessory implements the given interface and no listener
+ * is registered to the given events {@code EVENT}
+ */
+@ApiStatus.Internal
+public enum ExtraEventType {
+    LOOTING_ADJUSTMENT(LootingAdjustment.class),
+    FORTUNE_ADJUSTMENT(FortuneAdjustment.class),
+    PIGLIN_NEUTRAL_INDUCER(PiglinNeutralInducer.class),
+    ALLOW_WALKING_ON_SNOW(AllowWalkingOnSnow.class),
+    ENDERMAN_MASKED(EndermanMasked.class);
+
+    private static final ExtraEventType[] VALUES = values();
+
+    private final Class<?> type;
+    private final int mask;
+
+    private volatile boolean hasListeners = false;
+
+    ExtraEventType(Class<?> type) {
+        this.type = type;
+        this.mask = 1 << this.ordinal();
+    }
+
+    public int mask() {
+        return this.mask;
+    }
+
+    public boolean isIn(int mask) {
+        return (mask & this.mask) != 0;
+    }
+
+    /**
+     * @return If any listeners are currently registered to the events {@code EVENT}
+     */
+    public boolean hasListeners() {
+        return this.hasListeners;
+    }
+
+    /**
+     * Called by the given events invoker factory whenever the registered listeners change
+     */
+    <T> void updateListeners(T[] invokers) {
+        this.hasListeners = invokers.length > 0;
+    }
+
+    /**
+     * @return Bitmask of all extra event interfaces the given accessory implements
+     */
+    public static int classify(Accessory accessory) {
+        var mask = 0;
+
+        for (var type : VALUES) {
+            if (type.type.isInstance(accessory)) mask |= type.mask;
+        }
+
+        return mask;
+    }
+}
@@ -17,14 +17,18 @@ import net.minecraft.world.level.storage.loot.functions.ApplyBonusCount;
  */
 public interface FortuneAdjustment {
 
-    Event<FortuneAdjustment> EVENT = EventFactory.createArrayBacked(FortuneAdjustment.class, invokers -> (stack, reference, context, currentLevel) -> {
-        var additionalLevels = 0;
+    Event<FortuneAdjustment> EVENT = EventFactory.createArrayBacked(FortuneAdjustment.class, invokers -> {
+        ExtraEventType.FORTUNE_ADJUSTMENT.updateListeners(invokers);
 
-        for (var invoker : invokers) {
-            additionalLevels += invoker.getFortuneAdjustment(stack, reference, context, additionalLevels + currentLevel);
-        }
+        return (stack, reference, context, currentLevel) -> {
+            var additionalLevels = 0;
 
-        return additionalLevels;
+            for (var invoker : invokers) {
+                additionalLevels += invoker.getFortuneAdjustment(stack, reference, context, additionalLevels + currentLevel);
+            }
+
+            return additionalLevels;
+        };
     });
 
     /**
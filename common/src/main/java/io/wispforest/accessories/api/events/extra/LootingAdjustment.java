@@ -16,14 +16,18 @@ import net.minecraft.world.item.ItemStack;
  */
 public interface LootingAdjustment {
 
-    Event<LootingAdjustment> EVENT = EventFactory.createArrayBacked(LootingAdjustment.class, invokers -> (stack, reference, target, damageSource, currentLevel) -> {
-        var additionalLevels = 0;
+    Event<LootingAdjustment> EVENT = EventFactory.createArrayBacked(LootingAdjustment.class, invokers -> {
+        ExtraEventType.LOOTING_ADJUSTMENT.updateListeners(invokers);
 
-        for (var invoker : invokers) {
-            additionalLevels += invoker.getLootingAdjustment(stack, reference, target, damageSource, additionalLevels + currentLevel);
-        }
+        return (stack, reference, target, damageSource, currentLevel) -> {
+            var additionalLevels = 0;
 
-        return additionalLevels;
+            for (var invoker : invokers) {
+                additionalLevels += invoker.getLootingAdjustment(stack, reference, target, damageSource, additionalLevels + currentLevel);
+            }
+
+            return additionalLevels;
+        };
     });
 
     /**
@@ -18,14 +18,18 @@ import net.minecraft.world.item.ItemStack;
  */
 public interface PiglinNeutralInducer {
 
-    Event<PiglinNeutralInducer> EVENT = EventFactory.createArrayBacked(PiglinNeutralInducer.class, invokers -> (stack, reference) -> {
-        for (var invoker : invokers) {
-            var state = invoker.makePiglinsNeutral(stack, reference);
+    Event<PiglinNeutralInducer> EVENT = EventFactory.createArrayBacked(PiglinNeutralInducer.class, invokers -> {
+        ExtraEventType.PIGLIN_NEUTRAL_INDUCER.updateListeners(invokers);
 
-            if(state != TriState.DEFAULT) return state;
-        }
+        return (stack, reference) -> {
+            for (var invoker : invokers) {
+                var state = invoker.makePiglinsNeutral(stack, reference);
 
-        return TriState.DEFAULT;
+                if(state != TriState.DEFAULT) return state;
+            }
+
+            return TriState.DEFAULT;
+        };
     });
 
     /**
@@ -51,4 +51,11 @@ public interface SlotType {
      * @return The given {@link DropRule} used to upon an entity's death to handle accessory's equipped.
      */
     DropRule dropRule();
+
+    /**
+     * @return If the given slot type is a unique slot registered through {@link UniqueSlotHandling}.
+     */
+    default boolean isUnique() {
+        return UniqueSlotHandling.isUniqueSlot(name());
+    }
 }
@@ -32,7 +32,16 @@ public class UniqueSlotHandling {
     });
 
     public static boolean isUniqueSlot(String slotType) {
-        return slotType.split(":").length > 1;
+        var separatorIndex = slotType.indexOf(':');
+
+        if (separatorIndex == -1) return false;
+
+        // Matches the previous split based check which ignored any trailing separators
+        for (int i = separatorIndex + 1; i < slotType.length(); i++) {
+            if (slotType.charAt(i) != ':') return true;
+        }
+
+        return false;
     }
 
     public static boolean isUniqueGroup(String group, boolean isClient) {
@@ -11,6 +11,7 @@ import io.wispforest.accessories.api.slot.SlotType;
 import io.wispforest.accessories.client.gui.AccessoriesInternalSlot;
 import io.wispforest.accessories.data.SlotGroupLoader;
 import io.wispforest.accessories.data.SlotTypeLoader;
+import io.wispforest.accessories.mixin.AbstractContainerMenuAccessor;
 import io.wispforest.accessories.mixin.SlotAccessor;
 import io.wispforest.accessories.networking.server.ScreenOpen;
 import net.minecraft.network.FriendlyByteBuf;
@@ -72,6 +73,9 @@ public final class AccessoriesMenu extends AbstractContainerMenu {
     @Nullable
     private Set<SlotType> usedSlots = null;
 
+    // State id sent with the full state of the menu after the accessory slots were last rebuilt or -1 if never rebuilt
+    private int rebuiltStateId = -1;
+
     public AccessoriesMenu(int containerId, Inventory inventory, @Nullable LivingEntity targetEntity) {
         super(Accessories.ACCESSORIES_MENU_TYPE, containerId);
 
@@ -117,8 +121,12 @@ public final class AccessoriesMenu extends AbstractContainerMenu {
 
         //--
 
+        this.addAccessorySlots(accessoryTarget, capability);
+    }
+
+    private void addAccessorySlots(LivingEntity accessoryTarget, AccessoriesCapability capability) {
         if(!this.areUnusedSlotsShown()) {
-            this.usedSlots = ImmutableSet.copyOf(AccessoriesAPI.getUsedSlotsFor(targetEntity != null ? targetEntity : owner, owner.getInventory()));
+            this.usedSlots = ImmutableSet.copyOf(AccessoriesAPI.getUsedSlotsFor(accessoryTarget, owner.getInventory()));
         }
 
         int minX = -46, maxX = 60, minY = 8, maxY = 152;
@@ -132,7 +140,7 @@ public final class AccessoriesMenu extends AbstractContainerMenu {
         var accessoriesSlots = new ArrayList<AccessoriesInternalSlot>();
         var cosmeticSlots = new ArrayList<AccessoriesInternalSlot>();
 
-        var groups = SlotGroupLoader.getGroups(inventory.player.level(), !this.areUniqueSlotsShown());
+        var groups = SlotGroupLoader.getGroups(owner.level(), !this.areUniqueSlotsShown());
 
         var containers = capability.getContainers();
 
@@ -209,6 +217,62 @@ public final class AccessoriesMenu extends AbstractContainerMenu {
         this.maxScrollableIndex = this.totalSlots - 8;
     }
 
+    /**
+     * Rebuilds only the accessory slots after a given container has been resized instead of reopening the menu, must be
+     * called on both sides to keep the slot indices in sync
+     */
+    public void rebuildAccessorySlots() {
+        var accessoryTarget = this.accessoryTarget();
+
+        var capability = AccessoriesCapability.get(accessoryTarget);
+
+        if (capability == null) return;
+
+        var accessor = (AbstractContainerMenuAccessor) this;
+
+        for (int i = this.slots.size() - 1; i >= this.accessoriesSlotStartIndex; i--) {
+            this.slots.remove(i);
+            accessor.accessories$getLastSlots().remove(i);
+            accessor.accessories$getRemoteSlots().remove(i);
+        }
+
+        var prevScrolledIndex = this.scrolledIndex;
+
+        this.slotToView.clear();
+        this.validGroups.clear();
+        this.usedSlots = null;
+        this.overMaxVisibleSlots = false;
+        this.scrolledIndex = 0;
+        this.smoothScroll = 0;
+
+        this.addAccessorySlots(accessoryTarget, capability);
+
+        this.scrollTo(prevScrolledIndex, false);
+    }
+
+    /**
+     * Sends the full state of the menu after its accessory slots have been rebuilt on the server, with any click made
+     * against the previous slot layout being rejected by {@link #isFromPreviousLayout}
+     */
+    public void sendRebuiltState() {
+        // Increments the state id meaning the client only knows the new id once it has received the rebuilt state
+        this.sendAllDataToRemote();
+
+        this.rebuiltStateId = this.getStateId();
+    }
+
+    /**
+     * @return If the given state id was sent by the client before receiving the state of the last rebuilt slot layout
+     */
+    public boolean isFromPreviousLayout(int stateId) {
+        if (this.rebuiltStateId == -1) return false;
+
+        var currentStateId = this.getStateId();
+
+        // State ids wrap around meaning the distance from the current state id is compared instead
+        return ((currentStateId - stateId) & 32767) > ((currentStateId - this.rebuiltStateId) & 32767);
+    }
+
     public void setScrollEvent(Runnable event) {
         this.onScrollToEvent = event;
     }
@@ -248,6 +312,13 @@ public final class AccessoriesMenu extends AbstractContainerMenu {
         return this.targetEntity;
     }
 
+    /**
+     * @return The entity whose accessories are shown within the menu
+     */
+    public LivingEntity accessoryTarget() {
+        return this.targetEntity != null ? this.targetEntity : this.owner;
+    }
+
     public Player owner() {
         return this.owner;
     }
@@ -9,6 +9,7 @@ import io.wispforest.accessories.api.slot.SlotReference;
 import io.wispforest.accessories.api.client.AccessoriesRendererRegistry;
 import io.wispforest.accessories.client.gui.AccessoriesInternalSlot;
 import io.wispforest.accessories.client.gui.AccessoriesScreen;
+import io.wispforest.accessories.impl.AccessoriesContainerImpl;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.EntityModel;
 import net.minecraft.client.model.HumanoidModel;
@@ -101,6 +102,8 @@ public class AccessoriesRenderLayer<T extends LivingEntity, M extends EntityMode
 
             var container = entry.getValue();
 
+            if (!((AccessoriesContainerImpl) container).isMaterialized()) continue;
+
             var accessories = container.getAccessories();
             var cosmetics = container.getCosmeticAccessories();
 
@@ -0,0 +1,118 @@
+package io.wispforest.accessories.client;
+
+import io.wispforest.accessories.AccessoriesInternals;
+import io.wispforest.accessories.networking.base.HandledPacketPayload;
+import io.wispforest.accessories.networking.client.SyncData;
+import io.wispforest.accessories.networking.server.RequestSyncData;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Client side cache of the last received {@link SyncData} keyed by their hash, allowing for the definitions to be reused
+ * when rejoining a server or when a reload did not change them. Packets depending on the definitions are held back
+ * while the definitions for the advertised hash are being requested.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class SyncDataCache {
+
+    private static final int MAX_CACHED = 4;
+
+    private static final Map<Long, SyncData> CACHE = new LinkedHashMap<>(MAX_CACHED, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, SyncData> eldest) {
+            return this.size() > MAX_CACHED;
+        }
+    };
+
+    // Packets held back along with any hash advertised while awaiting, handled in order once the definitions are received
+    private static final Deque<Deferred> DEFERRED = new ArrayDeque<>();
+
+    private static boolean awaitingData = false;
+    private static boolean handlingDeferred = false;
+
+    public static void onHashReceived(long hash) {
+        var data = CACHE.get(hash);
+
+        if (!awaitingData) {
+            if (data != null) {
+                data.apply();
+
+                return;
+            }
+
+            awaitingData = true;
+        }
+
+        // Held in order with the deferred packets so that no packet sent before the hash is handled with its definitions
+        var alreadyRequested = DEFERRED.stream().anyMatch(deferred -> deferred.packet() == null && deferred.hash() == hash);
+
+        DEFERRED.add(new Deferred(hash, null));
+
+        if (data == null && !alreadyRequested) {
+            AccessoriesInternals.getNetworkHandler().sendToServer(new RequestSyncData(hash));
+        }
+    }
+
+    public static void onReceived(SyncData data, Player player) {
+        CACHE.put(data.hash(), data);
+
+        if (!awaitingData) return;
+
+        handlingDeferred = true;
+
+        try {
+            while (!DEFERRED.isEmpty()) {
+                var deferred = DEFERRED.peekFirst();
+
+                if (deferred.packet() == null) {
+                    var awaitedData = CACHE.get(deferred.hash());
+
+                    // Still awaiting the definitions for the given hash
+                    if (awaitedData == null) return;
+
+                    // The received definitions have already been applied when handled
+                    if (awaitedData != data) awaitedData.apply();
+                }
+
+                DEFERRED.pollFirst();
+
+                if (deferred.packet() != null) deferred.packet().handle(player);
+            }
+
+            awaitingData = false;
+        } finally {
+            handlingDeferred = false;
+        }
+    }
+
+    /**
+     * @return If the given packet was held back to be handled once the requested definitions have been received
+     */
+    public static boolean deferIfAwaiting(HandledPacketPayload packet) {
+        if (!awaitingData || handlingDeferred) return false;
+
+        DEFERRED.add(new Deferred(0, packet));
+
+        return true;
+    }
+
+    /**
+     * Drops any held back packets and requested definitions when disconnecting, keeping the cached definitions
+     */
+    public static void reset() {
+        DEFERRED.clear();
+
+        awaitingData = false;
+    }
+
+    private record Deferred(long hash, @Nullable HandledPacketPayload packet) {}
+}
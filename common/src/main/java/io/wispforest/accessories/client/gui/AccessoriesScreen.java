@@ -534,7 +534,7 @@ public class AccessoriesScreen extends AbstractContainerScreen<AccessoriesMenu>
         if (Accessories.getConfig().clientData.showUniqueRendering) {
             var anyUniqueSlots = EntitySlotLoader.getEntitySlots(this.targetEntityDefaulted()).values()
                     .stream()
-                    .anyMatch(slotType -> UniqueSlotHandling.isUniqueSlot(slotType.name()));
+                    .anyMatch(slotType -> slotType.isUnique());
 
             if (anyUniqueSlots) {
                 this.uniqueSlotsToggleButton = this.addRenderableWidget(
@@ -18,6 +18,8 @@ import io.wispforest.accessories.api.slot.SlotGroup;
 import io.wispforest.accessories.data.EntitySlotLoader;
 import io.wispforest.accessories.data.SlotGroupLoader;
 import io.wispforest.accessories.data.SlotTypeLoader;
+import io.wispforest.accessories.impl.AccessoriesMetrics;
+import io.wispforest.accessories.impl.ReloadRevalidationScheduler;
 import io.wispforest.accessories.utils.AttributeUtils;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.commands.CommandSourceStack;
@@ -270,6 +272,30 @@ public class AccessoriesCommands {
                                                             return 1;
                                                         })
                                         )
+                        ).then(
+                                Commands.literal("metrics")
+                                        .executes(ctx -> {
+                                            var source = ctx.getSource();
+
+                                            source.sendSuccess(() -> Component.literal("Accessories Metrics [Last Tick / Last Second / Total]:"), false);
+
+                                            for (var counter : AccessoriesMetrics.getCounters().values()) {
+                                                source.sendSuccess(() -> Component.literal(" - " + counter.name() + ": " + counter.lastTick() + " / " + counter.lastSecond() + " / " + counter.total()), false);
+                                            }
+
+                                            return 1;
+                                        })
+                        ).then(
+                                Commands.literal("revalidation")
+                                        .executes(ctx -> {
+                                            var source = ctx.getSource();
+
+                                            var state = ReloadRevalidationScheduler.isRunning() ? "In Progress" : "Finished";
+
+                                            source.sendSuccess(() -> Component.literal("Reload Revalidation [" + state + "]: " + ReloadRevalidationScheduler.revalidatedPlayers() + " / " + ReloadRevalidationScheduler.totalPlayers() + " players over " + ReloadRevalidationScheduler.ticksTaken() + " ticks, " + ReloadRevalidationScheduler.fullSyncsSent() + " full resyncs"), false);
+
+                                            return 1;
+                                        })
                         )
         );
     }
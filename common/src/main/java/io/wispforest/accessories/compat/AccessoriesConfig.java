@@ -66,6 +66,39 @@ public class AccessoriesConfig implements ConfigData {
         public List<RenderSlotTarget> disabledDefaultRenders = new ArrayList<>();
     }
 
+    @ConfigEntry.Gui.CollapsibleObject()
+    public ServerData serverData = new ServerData();
+
+    public static class ServerData {
+        /**
+         * Forces the server to check every slot for changes each tick instead of only the slots flagged as
+         * changed by the containers. Mainly used to verify that the flagging based approach is not missing changes.
+         */
+        public boolean fullSlotChangeScan = false;
+
+        /**
+         * Time in milliseconds that can be spent each tick revalidating players after a data reload,
+         * with at least one player always being revalidated per tick.
+         */
+        public int reloadRevalidationBudgetMillis = 5;
+
+        /**
+         * Reduces how often accessories equipped on non-player entities are ticked when no player is nearby.
+         * Changes to the equipped accessories are still detected every tick.
+         */
+        public boolean throttleNonPlayerAccessoryTicking = true;
+
+        /**
+         * Distance in blocks from the nearest player beyond which non-player entities have their accessories ticked at a reduced rate
+         */
+        public int reducedAccessoryTickDistance = 64;
+
+        /**
+         * Interval in ticks between accessory ticks for non-player entities beyond the reduced tick distance
+         */
+        public int reducedAccessoryTickInterval = 10;
+    }
+
     public List<SlotAmountModifier> modifiers = new ArrayList<>();
 
     public static class SlotAmountModifier {
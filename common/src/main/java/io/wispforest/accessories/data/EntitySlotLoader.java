@@ -40,6 +40,9 @@ public class EntitySlotLoader extends ReplaceableJsonResourceReloadListener {
     private Map<EntityType<?>, Map<String, SlotType>> server = new HashMap<>();
     private Map<EntityType<?>, Map<String, SlotType>> client = new HashMap<>();
 
+    private int serverVersion = 0;
+    private int clientVersion = 0;
+
     protected EntitySlotLoader() {
         super(GSON, LOGGER, "accessories/entity");
     }
@@ -77,6 +80,15 @@ public class EntitySlotLoader extends ReplaceableJsonResourceReloadListener {
     @ApiStatus.Internal
     public final void setEntitySlotData(Map<EntityType<?>, Map<String, SlotType>> data){
         this.client = ImmutableMap.copyOf(data);
+        this.clientVersion++;
+    }
+
+    /**
+     * @return A counter that changes every time the entity slot bindings are replaced, used to invalidate any data derived from them
+     */
+    @ApiStatus.Internal
+    public final int getDataVersion(boolean isClientSide){
+        return isClientSide ? this.clientVersion : this.serverVersion;
     }
 
     //--
@@ -161,5 +173,6 @@ public class EntitySlotLoader extends ReplaceableJsonResourceReloadListener {
         }
         
         this.server = ImmutableMap.copyOf(tempMap);
+        this.serverVersion++;
     }
 }
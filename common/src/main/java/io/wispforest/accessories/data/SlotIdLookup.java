@@ -0,0 +1,60 @@
+package io.wispforest.accessories.data;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bidirectional mapping between slot names and compact integer ids used when syncing container data over the network.
+ * The server assigns the ids when slots are loaded with the client receiving them in order within {@link io.wispforest.accessories.networking.client.SyncData}.
+ */
+@ApiStatus.Internal
+public final class SlotIdLookup {
+
+    public static final SlotIdLookup EMPTY = new SlotIdLookup(List.of());
+
+    private final List<String> names;
+    private final Object2IntMap<String> ids = new Object2IntOpenHashMap<>();
+
+    private SlotIdLookup(List<String> names) {
+        this.names = List.copyOf(names);
+
+        this.ids.defaultReturnValue(-1);
+
+        for (int i = 0; i < this.names.size(); i++) this.ids.put(this.names.get(i), i);
+    }
+
+    /**
+     * Creates a lookup from the given slot names with the ids assigned based on the sorted order of the names
+     */
+    public static SlotIdLookup ofSorted(Collection<String> names) {
+        return new SlotIdLookup(names.stream().sorted().toList());
+    }
+
+    /**
+     * Creates a lookup from the given slot names with the ids assigned based on the given order
+     */
+    public static SlotIdLookup ofOrdered(List<String> names) {
+        return new SlotIdLookup(names);
+    }
+
+    /**
+     * @return The id for the given slot name or -1 if not found
+     */
+    public int getId(String slotName) {
+        return this.ids.getInt(slotName);
+    }
+
+    @Nullable
+    public String getName(int id) {
+        return (id >= 0 && id < this.names.size()) ? this.names.get(id) : null;
+    }
+
+    public List<String> names() {
+        return this.names;
+    }
+}
@@ -11,6 +11,7 @@ import io.wispforest.accessories.AccessoriesInternals;
 import io.wispforest.accessories.api.DropRule;
 import io.wispforest.accessories.api.slot.*;
 import io.wispforest.accessories.compat.AccessoriesConfig;
+import io.wispforest.accessories.impl.AttributeModifierCache;
 import io.wispforest.accessories.impl.SlotTypeImpl;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -38,6 +39,9 @@ public class SlotTypeLoader extends ReplaceableJsonResourceReloadListener {
     private Map<String, SlotType> server = new HashMap<>();
     private Map<String, SlotType> client = new HashMap<>();
 
+    private SlotIdLookup serverIds = SlotIdLookup.EMPTY;
+    private SlotIdLookup clientIds = SlotIdLookup.EMPTY;
+
     //--
 
     /**
@@ -69,9 +73,20 @@ public class SlotTypeLoader extends ReplaceableJsonResourceReloadListener {
         return isClientSide ? client : server;
     }
 
+    /**
+     * @return The network ids used to reference the given SlotTypes when syncing container data
+     */
+    @ApiStatus.Internal
+    public final SlotIdLookup getSlotIds(boolean isClientSide){
+        return isClientSide ? clientIds : serverIds;
+    }
+
     @ApiStatus.Internal
-    public void setSlotType(Map<String, SlotType> slotTypes){
+    public void setSlotType(Map<String, SlotType> slotTypes, List<String> slotIds){
         this.client = ImmutableMap.copyOf(slotTypes);
+        this.clientIds = SlotIdLookup.ofOrdered(slotIds);
+
+        AttributeModifierCache.invalidateAll();
     }
 
     @Override
@@ -174,6 +189,9 @@ public class SlotTypeLoader extends ReplaceableJsonResourceReloadListener {
         });
 
         this.server = ImmutableMap.copyOf(tempMap);
+        this.serverIds = SlotIdLookup.ofSorted(tempMap.keySet());
+
+        AttributeModifierCache.invalidateAll();
     }
 
     public static class SlotBuilder {
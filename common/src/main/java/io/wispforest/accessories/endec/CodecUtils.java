@@ -90,6 +90,14 @@ public class CodecUtils {
         return Endec.of(
                 (ctx, serializer, value) -> {
                     if (serializer instanceof ByteBufSerializer<?>) {
+                        var packetBuffer = getPacketBuffer(ctx, serializer);
+
+                        if (packetBuffer != null) {
+                            packetCodec.encode(packetBuffer, value);
+
+                            return;
+                        }
+
                         var buffer = new FriendlyByteBuf(Unpooled.buffer());
 
                         packetCodec.encode(buffer, value);
@@ -101,6 +109,10 @@ public class CodecUtils {
                 },
                 (ctx, deserializer) -> {
                     if (deserializer instanceof ByteBufDeserializer) {
+                        var packetBuffer = getPacketBuffer(ctx, deserializer);
+
+                        if (packetBuffer != null) return packetCodec.decode(packetBuffer);
+
                         return packetCodec.decode(MinecraftEndecs.PACKET_BYTE_BUF.decode(ctx, deserializer));
                     } else {
                         return decoder.decode(ctx, deserializer);
@@ -116,6 +128,14 @@ public class CodecUtils {
         return Endec.of(
                 (ctx, serializer, value) -> {
                     if (serializer instanceof ByteBufSerializer<?>) {
+                        var packetBuffer = getPacketBuffer(ctx, serializer);
+
+                        if (packetBuffer != null) {
+                            packetCodec.encode(packetBuffer, value);
+
+                            return;
+                        }
+
                         var buffer = new RegistryFriendlyByteBuf(new FriendlyByteBuf(Unpooled.buffer()), ctx.requireAttributeValue(RegistriesAttribute.REGISTRIES).registryManager());
 
                         packetCodec.encode(buffer, value);
@@ -127,6 +147,10 @@ public class CodecUtils {
                 },
                 (ctx, deserializer) -> {
                     if (deserializer instanceof ByteBufDeserializer) {
+                        var packetBuffer = getPacketBuffer(ctx, deserializer);
+
+                        if (packetBuffer != null) return packetCodec.decode(packetBuffer);
+
                         return packetCodec.decode(
                                 new RegistryFriendlyByteBuf(
                                         MinecraftEndecs.PACKET_BYTE_BUF.decode(ctx, deserializer),
@@ -139,6 +163,28 @@ public class CodecUtils {
         );
     }
 
+    /**
+     * @return The buffer the given serializer is directly writing to if marked using {@link PacketBufferAttribute} or
+     * null if the value must be written in its length prefixed form
+     */
+    @Nullable
+    private static RegistryFriendlyByteBuf getPacketBuffer(SerializationContext ctx, Serializer<?> serializer) {
+        var attribute = ctx.getAttributeValue(PacketBufferAttribute.PACKET_BUFFER);
+
+        return (attribute != null && attribute.isOwner(serializer)) ? attribute.buffer() : null;
+    }
+
+    /**
+     * @return The buffer the given deserializer is directly reading from if marked using {@link PacketBufferAttribute} or
+     * null if the value must be read in its length prefixed form
+     */
+    @Nullable
+    private static RegistryFriendlyByteBuf getPacketBuffer(SerializationContext ctx, Deserializer<?> deserializer) {
+        var attribute = ctx.getAttributeValue(PacketBufferAttribute.PACKET_BUFFER);
+
+        return (attribute != null && attribute.isOwner(deserializer)) ? attribute.buffer() : null;
+    }
+
     //--
 
     /**
@@ -319,20 +365,24 @@ public class CodecUtils {
         return new StreamCodec<>() {
             @Override
             public T decode(B buf) {
+                var deserializer = ByteBufDeserializer.of(buf);
+
                 var ctx = buf instanceof RegistryFriendlyByteBuf registryByteBuf
-                        ? SerializationContext.attributes(RegistriesAttribute.of(registryByteBuf.registryAccess()))
+                        ? SerializationContext.attributes(RegistriesAttribute.of(registryByteBuf.registryAccess()), PacketBufferAttribute.of(registryByteBuf, deserializer))
                         : SerializationContext.empty();
 
-                return endec.decode(ctx, ByteBufDeserializer.of(buf));
+                return endec.decode(ctx, deserializer);
             }
 
             @Override
             public void encode(B buf, T value) {
+                var serializer = ByteBufSerializer.of(buf);
+
                 var ctx = buf instanceof RegistryFriendlyByteBuf registryByteBuf
-                        ? SerializationContext.attributes(RegistriesAttribute.of(registryByteBuf.registryAccess()))
+                        ? SerializationContext.attributes(RegistriesAttribute.of(registryByteBuf.registryAccess()), PacketBufferAttribute.of(registryByteBuf, serializer))
                         : SerializationContext.empty();
 
-                endec.encode(ctx, ByteBufSerializer.of(buf), value);
+                endec.encode(ctx, serializer, value);
             }
         };
     }
@@ -0,0 +1,47 @@
+package io.wispforest.accessories.endec;
+
+import io.wispforest.endec.Deserializer;
+import io.wispforest.endec.SerializationAttribute;
+import io.wispforest.endec.Serializer;
+import io.wispforest.endec.format.bytebuf.ByteBufDeserializer;
+import io.wispforest.endec.format.bytebuf.ByteBufSerializer;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+
+/**
+ * Attribute holding the buffer the given {@link ByteBufSerializer} or {@link ByteBufDeserializer} is directly writing to
+ * or reading from, allowing for endecs created from a {@link net.minecraft.network.codec.StreamCodec} to use the buffer
+ * without writing the value to an intermediate buffer first.
+ * <p>
+ * The buffer is only used when encoding or decoding with the exact serializer or deserializer instance held, with any
+ * nested or wrapping serializer falling back to the length prefixed form on both sides.
+ */
+public record PacketBufferAttribute(RegistryFriendlyByteBuf buffer, Object owner) implements SerializationAttribute.Instance {
+
+    public static final SerializationAttribute.WithValue<PacketBufferAttribute> PACKET_BUFFER = SerializationAttribute.withValue("packet_buffer");
+
+    public static PacketBufferAttribute of(RegistryFriendlyByteBuf buffer, ByteBufSerializer<?> serializer) {
+        return new PacketBufferAttribute(buffer, serializer);
+    }
+
+    public static PacketBufferAttribute of(RegistryFriendlyByteBuf buffer, ByteBufDeserializer deserializer) {
+        return new PacketBufferAttribute(buffer, deserializer);
+    }
+
+    public boolean isOwner(Serializer<?> serializer) {
+        return this.owner == serializer;
+    }
+
+    public boolean isOwner(Deserializer<?> deserializer) {
+        return this.owner == deserializer;
+    }
+
+    @Override
+    public SerializationAttribute attribute() {
+        return PACKET_BUFFER;
+    }
+
+    @Override
+    public Object value() {
+        return this;
+    }
+}
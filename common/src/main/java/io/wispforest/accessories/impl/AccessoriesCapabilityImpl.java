@@ -7,12 +7,11 @@ import io.wispforest.accessories.AccessoriesInternals;
 import io.wispforest.accessories.api.*;
 import io.wispforest.accessories.api.EquipAction;
 import io.wispforest.accessories.api.slot.ExtraSlotTypeProperties;
+import io.wispforest.accessories.api.slot.NestedSlotReferenceImpl;
 import io.wispforest.accessories.api.slot.SlotEntryReference;
 import io.wispforest.accessories.api.slot.SlotReference;
 import io.wispforest.accessories.data.EntitySlotLoader;
-import io.wispforest.accessories.endec.NbtMapCarrier;
-import io.wispforest.accessories.endec.RegistriesAttribute;
-import io.wispforest.accessories.networking.client.SyncEntireContainer;
+import io.wispforest.accessories.networking.AccessoriesSyncing;
 import io.wispforest.endec.SerializationContext;
 import io.wispforest.endec.util.MapCarrier;
 import it.unimi.dsi.fastutil.Pair;
@@ -34,6 +33,18 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
 
     private final LivingEntity entity;
 
+    @Nullable
+    private AccessoriesHolderImpl validatedHolder = null;
+    private int validatedSlotDataVersion = -1;
+
+    private int equipmentVersion = 0;
+
+    @Nullable
+    private EquippedIndex equippedIndex = null;
+
+    @Nullable
+    private AccessoryEnchantmentCache enchantmentCache = null;
+
     public AccessoriesCapabilityImpl(LivingEntity entity) {
         this.entity = entity;
 
@@ -53,13 +64,21 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
         // Attempts to reset the container when loaded from tag on the server
         if (holder.loadedFromTag) this.reset(true);
 
-        // Prevents containers from not existing even if a given entity will have such slots but have yet to be synced to the client
-        if (holder.getSlotContainers().size() != EntitySlotLoader.getEntitySlots(entity).size()) holder.init(this);
+        var slotDataVersion = EntitySlotLoader.INSTANCE.getDataVersion(entity.level().isClientSide());
+
+        // Containers are only ever added by init, meaning the check below only needs to occur when the slot data or holder changes
+        if (holder != this.validatedHolder || slotDataVersion != this.validatedSlotDataVersion) {
+            // Prevents containers from not existing even if a given entity will have such slots but have yet to be synced to the client
+            if (holder.getSlotContainers().size() != EntitySlotLoader.getEntitySlots(entity).size()) holder.init(this);
+
+            this.validatedHolder = holder;
+            this.validatedSlotDataVersion = slotDataVersion;
+        }
 
         return holder;
     }
 
-    private AccessoriesHolderImpl holder() {
+    AccessoriesHolderImpl holder() {
         return (AccessoriesHolderImpl) this.getHolder();
     }
 
@@ -94,7 +113,9 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
             oldContainers.forEach((s, oldContainer) -> {
                 var currentContainer = currentContainers.get(s);
 
-                currentContainer.getAccessories().setFromPrev(oldContainer.getAccessories());
+                if (((AccessoriesContainerImpl) oldContainer).isMaterialized()) {
+                    currentContainer.getAccessories().setFromPrev(oldContainer.getAccessories());
+                }
 
                 currentContainer.markChanged(false);
             });
@@ -104,40 +125,12 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
 
         if (!(this.entity instanceof ServerPlayer serverPlayer) || serverPlayer.connection == null) return;
 
-        var carrier = NbtMapCarrier.of();
-
-        holder.write(carrier, SerializationContext.attributes(RegistriesAttribute.of(this.entity.level().registryAccess())));
-
-        AccessoriesInternals.getNetworkHandler().sendToTrackingAndSelf(serverPlayer, new SyncEntireContainer(serverPlayer.getId(), carrier));
+        AccessoriesSyncing.queueFullSync(serverPlayer);
     }
 
-    private boolean updateContainersLock = false;
-
     @Override
     public void updateContainers() {
-        if (updateContainersLock) return;
-
-        boolean hasUpdateOccurred;
-
-        var containers = this.getContainers().values();
-
-        this.updateContainersLock = true;
-
-        do {
-            hasUpdateOccurred = false;
-
-            for (var container : containers) {
-                if (!container.hasChanged()) {
-                    continue;
-                }
-
-                container.update();
-
-                hasUpdateOccurred = true;
-            }
-        } while (hasUpdateOccurred);
-
-        this.updateContainersLock = false;
+        this.holder().updateScheduler.run(this.getContainers().values());
     }
 
     @Override
@@ -202,7 +195,7 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
         containers.forEach((name, container) -> {
             var modifiers = container.getCachedModifiers();
 
-            if (modifiers.isEmpty()) return;
+            if (modifiers.isEmpty() || !((AccessoriesContainerImpl) container).isMaterialized()) return;
 
             var accessories = container.getAccessories();
 
@@ -320,10 +313,29 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
     //--
 
     public SlotEntryReference getFirstEquipped(Predicate<ItemStack> predicate, EquipmentChecking check) {
+        if (check == EquipmentChecking.ACCESSORIES_ONLY) {
+            for (var entryReference : getAllEquippedView(true)) {
+                if (!predicate.test(entryReference.stack())) continue;
+
+                var reference = entryReference.reference();
+
+                // Nested entries are referenced by the slot holding the outermost stack
+                return (reference instanceof NestedSlotReferenceImpl)
+                        ? new SlotEntryReference(SlotReference.of(reference.entity(), reference.slotName(), reference.slot()), entryReference.stack())
+                        : entryReference;
+            }
+
+            return null;
+        }
+
         for (var container : this.getContainers().values()) {
-            for (var stackEntry : container.getAccessories()) {
-                var stack = stackEntry.getSecond();
-                var reference = container.createReference(stackEntry.getFirst());
+            if (!((AccessoriesContainerImpl) container).isMaterialized()) continue;
+
+            var stacks = container.getAccessories();
+
+            for (int i = 0; i < stacks.getContainerSize(); i++) {
+                var stack = stacks.getItem(i);
+                var reference = container.createReference(i);
 
                 if(check == EquipmentChecking.COSMETICALLY_OVERRIDABLE) {
                     var cosmetic = container.getCosmeticAccessories().getItem(reference.slot());
@@ -346,30 +358,72 @@ public class AccessoriesCapabilityImpl implements AccessoriesCapability, Instanc
 
     @Override
     public List<SlotEntryReference> getEquipped(Predicate<ItemStack> predicate) {
-        return getAllEquipped().stream().filter(reference -> predicate.test(reference.stack())).toList();
+        var references = new ArrayList<SlotEntryReference>();
+
+        for (var reference : getAllEquippedView(true)) {
+            if (predicate.test(reference.stack())) references.add(reference);
+        }
+
+        return references;
     }
 
     @Override
     public List<SlotEntryReference> getAllEquipped(boolean recursiveStackLookup) {
-        var references = new ArrayList<SlotEntryReference>();
+        // Copied as callers may freely modify the returned list
+        return new ArrayList<>(getAllEquippedView(recursiveStackLookup));
+    }
 
-        for (var container : this.getContainers().values()) {
-            for (var stackEntry : container.getAccessories()) {
-                var stack = stackEntry.getSecond();
+    /**
+     * @return An immutable list of all equipped entries shared between calls until a container reports a change
+     */
+    public List<SlotEntryReference> getAllEquippedView(boolean recursiveStackLookup) {
+        var index = getEquippedIndex();
 
-                if (stack.isEmpty()) continue;
+        return recursiveStackLookup ? index.entries() : index.topLevelEntries();
+    }
 
-                var reference = container.createReference(stackEntry.getFirst());
+    /**
+     * Called by containers when any of the stacks held within them are replaced or mutated in place
+     */
+    void markEquipmentChanged() {
+        this.equipmentVersion++;
+    }
 
-                if(recursiveStackLookup) {
-                    AccessoryNestUtils.recursiveStackConsumption(stack, reference, (innerStack, ref) -> references.add(new SlotEntryReference(ref, innerStack)));
-                } else {
-                    references.add(new SlotEntryReference(reference, stack));
-                }
-            }
+    /**
+     * @return The flattened index of all equipped accessories, rebuilt only when the containers have changed
+     */
+    public EquippedIndex getEquippedIndex() {
+        var containers = this.getContainers();
+        var holder = this.holder();
+
+        var index = this.equippedIndex;
+
+        if (index != null && index.holder() == holder && index.stateVersion() == holder.stateVersion() && index.equipmentVersion() == this.equipmentVersion) {
+            AccessoriesMetrics.EQUIPPED_INDEX_HITS.increment();
+
+            return index;
         }
 
-        return references;
+        AccessoriesMetrics.EQUIPPED_INDEX_REBUILDS.increment();
+
+        index = EquippedIndex.create(holder, holder.stateVersion(), this.equipmentVersion, containers.values());
+
+        this.equippedIndex = index;
+
+        return index;
+    }
+
+    /**
+     * @return The aggregated enchantments of all equipped accessories, rebuilt only when the {@link #getEquippedIndex()} changes
+     */
+    public AccessoryEnchantmentCache getEnchantmentCache() {
+        var index = getEquippedIndex();
+
+        var cache = this.enchantmentCache;
+
+        if (cache == null || cache.index() != index) this.enchantmentCache = cache = AccessoryEnchantmentCache.of(index);
+
+        return cache;
     }
 
     @Override
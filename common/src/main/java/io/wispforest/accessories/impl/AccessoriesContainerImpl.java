@@ -11,6 +11,9 @@ import io.wispforest.accessories.api.slot.SlotReference;
 import io.wispforest.accessories.api.slot.SlotType;
 import io.wispforest.accessories.endec.RegistriesAttribute;
 import io.wispforest.accessories.endec.format.nbt.NbtEndec;
+import io.wispforest.accessories.networking.client.SyncAppearance;
+import io.wispforest.accessories.networking.client.SyncContainerData;
+import io.wispforest.accessories.networking.client.SyncEntireContainer;
 import io.wispforest.accessories.utils.AttributeUtils;
 import io.wispforest.endec.Endec;
 import io.wispforest.endec.SerializationContext;
@@ -42,24 +45,124 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
     @Nullable
     private Integer baseSize;
 
-    private List<Boolean> renderOptions;
+    // Containers are only materialized on first access with the size being tracked separately till then
+    private int size;
 
-    private ExpandedSimpleContainer accessories;
-    private ExpandedSimpleContainer cosmeticAccessories;
+    // Set bits represent slots with rendering disabled meaning an empty set is the default state
+    private final BitSet hiddenRenderOptions = new BitSet();
+    private final List<Boolean> renderOptions = new RenderOptionsView();
+
+    // Storage of the holder from which the slice viewed by both containers is allocated on materialization
+    private final AccessoriesHolderStorage storage;
+
+    @Nullable private AccessoriesHolderStorage.Slice slice = null;
+    @Nullable private ExpandedSimpleContainer accessories = null;
+    @Nullable private ExpandedSimpleContainer cosmeticAccessories = null;
 
     private boolean update = false;
     private boolean resizingUpdate = false;
 
+    // Set when the container is resized in place so the new size is synced to the client
+    private boolean pendingResize = false;
+
+    // Server side state last sent to the client used to build sync deltas
+    @Nullable private Integer lastSyncedBaseSize = null;
+    private final BitSet lastSyncedHiddenRenderOptions = new BitSet();
+    private final Map<ResourceLocation, AttributeModifier> lastSyncedModifiers = new HashMap<>();
+
     public AccessoriesContainerImpl(AccessoriesCapability capability, SlotType slotType){
+        this(capability, slotType, new AccessoriesHolderStorage());
+    }
+
+    public AccessoriesContainerImpl(AccessoriesCapability capability, SlotType slotType, AccessoriesHolderStorage storage){
         this.capability = capability;
+        this.storage = storage;
 
         this.slotName = slotType.name();
         this.baseSize = slotType.amount();
 
-        this.accessories = new ExpandedSimpleContainer(this::onContainerUpdate, this.baseSize, "accessories", false);
-        this.cosmeticAccessories = new ExpandedSimpleContainer(this::onContainerUpdate, this.baseSize, "cosmetic_accessories", false);
+        this.size = this.baseSize;
+    }
+
+    /**
+     * @return If the backing containers have been created, with unmaterialized containers being known to be empty
+     */
+    public boolean isMaterialized() {
+        return this.accessories != null;
+    }
+
+    private void materialize() {
+        if (this.accessories != null) return;
+
+        createContainers(this.size, false);
 
-        this.renderOptions = getWithSize(baseSize, new ArrayList<>(), true);
+        AccessoriesMetrics.CONTAINERS_MATERIALIZED.increment();
+    }
+
+    private void setSparse(int size) {
+        var wasMaterialized = isMaterialized();
+
+        this.size = size;
+
+        releaseStorage();
+
+        this.slice = null;
+        this.accessories = null;
+        this.cosmeticAccessories = null;
+
+        if (wasMaterialized) this.onContentsChanged();
+    }
+
+    /**
+     * @return If the container holds no stacks, modifiers or changed render options and has the size of its slot type
+     * meaning it does not need to be saved or synced
+     */
+    public boolean isEmpty() {
+        if (!this.modifiers.isEmpty() || !this.hiddenRenderOptions.isEmpty()) return false;
+
+        var slotType = this.slotType();
+
+        if (slotType == null || this.baseSize == null || this.baseSize != slotType.amount() || this.size != this.baseSize) return false;
+
+        return !isMaterialized() || (this.accessories.isEmpty() && this.cosmeticAccessories.isEmpty());
+    }
+
+    private void setRenderOptions(List<Boolean> options) {
+        this.hiddenRenderOptions.clear();
+
+        for (int i = 0; i < Math.min(options.size(), this.size); i++) {
+            if (!options.get(i)) this.hiddenRenderOptions.set(i);
+        }
+    }
+
+    /**
+     * Creates both containers as views over a newly allocated slice of the holders storage, releasing the slice of any
+     * previous containers
+     */
+    private void createContainers(int size, boolean toggleNewlyConstructed) {
+        releaseStorage();
+
+        this.slice = this.storage.allocate(size);
+
+        this.accessories = createContainer(size, false, "accessories", toggleNewlyConstructed);
+        this.cosmeticAccessories = createContainer(size, true, "cosmetic_accessories", toggleNewlyConstructed);
+    }
+
+    private ExpandedSimpleContainer createContainer(int size, boolean cosmetic, String name, boolean toggleNewlyConstructed) {
+        return new ExpandedSimpleContainer(this::onContainerUpdate, this.slice, cosmetic, size, name, toggleNewlyConstructed)
+                .onContentsChanged(this::onContentsChanged);
+    }
+
+    /**
+     * Releases the slice of the holders storage used by the containers, moving the stacks to storage of their own so that
+     * the containers remain usable after being replaced within the holder
+     */
+    void releaseStorage() {
+        if (this.slice != null) this.slice.release();
+    }
+
+    private void onContentsChanged() {
+        if (this.capability instanceof AccessoriesCapabilityImpl capabilityImpl) capabilityImpl.markEquipmentChanged();
     }
 
     private boolean isWithinUpdateCall = false;
@@ -67,7 +170,7 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
     private void onContainerUpdate(Container container) {
         if(isWithinUpdateCall) return;
 
-        if(((ExpandedSimpleContainer) container).name().contains("cosmetic")) return;
+        if(((ExpandedSimpleContainer) container).isCosmetic()) return;
 
         this.markChanged();
         this.update();
@@ -83,9 +186,15 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
         this.update = true;
         this.resizingUpdate = resizingUpdate;
 
+        var capability = (AccessoriesCapabilityImpl) this.capability;
+
+        capability.holder().updateScheduler.onMarkedChanged(this);
+
         if(this.capability.entity().level().isClientSide) return;
 
-        var inv = ((AccessoriesCapabilityImpl) this.capability).getUpdatingInventories();
+        capability.holder().markStateChanged();
+
+        var inv = capability.getUpdatingInventories();
 
         inv.remove(this);
         inv.put(this, resizingUpdate);
@@ -141,37 +250,36 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
 
         var currentSize = (int) Math.round(size);
 
-        if(currentSize != this.accessories.getContainerSize()) {
+        if(currentSize != this.size && !isMaterialized()) {
+            hasChangeOccurred = true;
+
+            // Nothing is equipped so the new size only needs to be synced to the client
+            this.setSparse(currentSize);
+            this.pendingResize = true;
+
+            this.hiddenRenderOptions.clear(currentSize, Math.max(currentSize, this.hiddenRenderOptions.length()));
+        } else if(currentSize != this.size) {
             hasChangeOccurred = true;
 
             var invalidAccessories = new ArrayList<Pair<Integer, ItemStack>>();
 
             var invalidStacks = new ArrayList<ItemStack>();
 
-            isWithinUpdateCall = true;
+            // Only the slots being removed need to be looked at
+            for (int i = currentSize; i < this.size; i++) {
+                invalidAccessories.add(Pair.of(i, this.accessories.getItem(i)));
+                invalidStacks.add(this.cosmeticAccessories.getItem(i));
+            }
 
-            var newAccessories = new ExpandedSimpleContainer(this::onContainerUpdate, currentSize, "accessories");
-            var newCosmetics = new ExpandedSimpleContainer(this::onContainerUpdate, currentSize, "cosmetic_accessories");
+            isWithinUpdateCall = true;
 
-            for (int i = 0; i < this.accessories.getContainerSize(); i++) {
-                if (i < newAccessories.getContainerSize()) {
-                    newAccessories.setItem(i, this.accessories.getItem(i));
-                    newCosmetics.setItem(i, this.cosmeticAccessories.getItem(i));
-                } else {
-                    invalidAccessories.add(Pair.of(i, this.accessories.getItem(i)));
-                    invalidStacks.add(this.cosmeticAccessories.getItem(i));
-                }
-            }
+            this.resizeContainers(currentSize);
 
             isWithinUpdateCall = false;
 
-            newAccessories.copyPrev(this.accessories);
-            newCosmetics.copyPrev(this.cosmeticAccessories);
-
-            this.accessories = newAccessories;
-            this.cosmeticAccessories = newCosmetics;
+            this.pendingResize = true;
 
-            this.renderOptions = getWithSize(currentSize, this.renderOptions, true);
+            this.hiddenRenderOptions.clear(currentSize, Math.max(currentSize, this.hiddenRenderOptions.length()));
 
             var livingEntity = this.capability.entity();
 
@@ -206,10 +314,34 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
         }
     }
 
+    /**
+     * Resizes the materialized containers in place, growing the slice of the holders storage when resized past its capacity
+     * with extra room being reserved so that following growth does not move the slice again
+     */
+    private void resizeContainers(int size) {
+        if (size == this.size) return;
+
+        if (size > this.slice.capacity()) this.slice.reserve(Math.max(size, this.size + (this.size >> 1)));
+
+        this.accessories.resize(size);
+        this.cosmeticAccessories.resize(size);
+
+        this.size = size;
+
+        this.onContentsChanged();
+    }
+
+    /**
+     * @return The current size of the container without applying any pending updates
+     */
+    public int getCurrentSize() {
+        return this.size;
+    }
+
     @Override
     public int getSize() {
         this.update();
-        return this.accessories.getContainerSize();
+        return this.size;
     }
 
     @Override
@@ -231,12 +363,14 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
     @Override
     public ExpandedSimpleContainer getAccessories() {
         this.update();
+        this.materialize();
         return accessories;
     }
 
     @Override
     public ExpandedSimpleContainer getCosmeticAccessories() {
         this.update();
+        this.materialize();
         return cosmeticAccessories;
     }
 
@@ -344,62 +478,44 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
 
     @Override
     public void write(MapCarrier carrier, SerializationContext ctx) {
-        write(carrier, ctx, false);
-    }
-
-    public void write(MapCarrier carrier, SerializationContext ctx, boolean sync){
         var registryAccess = ctx.requireAttributeValue(RegistriesAttribute.REGISTRIES).registryManager();
 
         carrier.put(SLOT_NAME_KEY, this.slotName);
 
         carrier.putIfNotNull(ctx, BASE_SIZE_KEY, this.baseSize);
 
-        carrier.put(RENDER_OPTIONS_KEY, this.renderOptions);
+        carrier.put(RENDER_OPTIONS_KEY, List.copyOf(this.renderOptions));
 
-        if(!sync || this.accessories.wasNewlyConstructed()) {
-            carrier.put(CURRENT_SIZE_KEY, accessories.getContainerSize());
+        carrier.put(CURRENT_SIZE_KEY, this.size);
 
+        if (isMaterialized()) {
             carrier.put(ITEMS_KEY, accessories.createTag(registryAccess));
             carrier.put(COSMETICS_KEY, cosmeticAccessories.createTag(registryAccess));
         }
 
-        if(sync){
-            if(!this.modifiers.isEmpty()){
-                var modifiersTag = new ArrayList<CompoundTag>();
-
-                this.modifiers.values().forEach(modifier -> modifiersTag.add(modifier.save()));
-
-                carrier.put(MODIFIERS_KEY, modifiersTag);
-            }
-        } else {
-            if(!this.persistentModifiers.isEmpty()){
-                var persistentTag = new ArrayList<CompoundTag>();
+        if(!this.persistentModifiers.isEmpty()){
+            var persistentTag = new ArrayList<CompoundTag>();
 
-                this.persistentModifiers.forEach(modifier -> persistentTag.add(modifier.save()));
+            this.persistentModifiers.forEach(modifier -> persistentTag.add(modifier.save()));
 
-                carrier.put(PERSISTENT_MODIFIERS_KEY, persistentTag);
-            }
+            carrier.put(PERSISTENT_MODIFIERS_KEY, persistentTag);
+        }
 
-            if(!this.modifiers.isEmpty()){
-                var cachedTag = new ArrayList<CompoundTag>();
+        if(!this.modifiers.isEmpty()){
+            var cachedTag = new ArrayList<CompoundTag>();
 
-                this.modifiers.values().forEach(modifier -> {
-                    if(this.persistentModifiers.contains(modifier)) return;
+            this.modifiers.values().forEach(modifier -> {
+                if(this.persistentModifiers.contains(modifier)) return;
 
-                    cachedTag.add(modifier.save());
-                });
+                cachedTag.add(modifier.save());
+            });
 
-                carrier.put(CACHED_MODIFIERS_KEY, cachedTag);
-            }
+            carrier.put(CACHED_MODIFIERS_KEY, cachedTag);
         }
     }
 
     @Override
     public void read(MapCarrier carrier, SerializationContext ctx) {
-        read(carrier, ctx, false);
-    }
-
-    public void read(MapCarrier carrier, SerializationContext ctx, boolean sync){
         var registryAccess = ctx.requireAttributeValue(RegistriesAttribute.REGISTRIES).registryManager();
 
         this.slotName = carrier.get(SLOT_NAME_KEY);
@@ -411,71 +527,256 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
 
             var sentOptions = carrier.get(RENDER_OPTIONS_KEY);
 
-            this.renderOptions = getWithSize(currentSize, sentOptions, true);
+            var items = carrier.get(ITEMS_KEY);
+            var cosmetics = carrier.get(COSMETICS_KEY);
 
-            if(this.accessories.getContainerSize() != currentSize) {
-                this.accessories = new ExpandedSimpleContainer(this::onContainerUpdate, currentSize, "accessories");
-                this.cosmeticAccessories = new ExpandedSimpleContainer(this::onContainerUpdate, currentSize, "cosmetic_accessories");
+            if (items.isEmpty() && cosmetics.isEmpty()) {
+                this.setSparse(currentSize);
+            } else {
+                if(!isMaterialized() || this.size != currentSize) {
+                    createContainers(currentSize, true);
+                    this.size = currentSize;
+                }
+
+                this.accessories.fromTag(items, registryAccess);
+                this.cosmeticAccessories.fromTag(cosmetics, registryAccess);
             }
 
-            this.accessories.fromTag(carrier.get(ITEMS_KEY), registryAccess);
-            this.cosmeticAccessories.fromTag(carrier.get(COSMETICS_KEY), registryAccess);
+            this.setRenderOptions(sentOptions);
         } else {
-            this.renderOptions = carrier.get(RENDER_OPTIONS_KEY);
+            this.setRenderOptions(carrier.get(RENDER_OPTIONS_KEY));
         }
 
-        if(sync) {
-            this.modifiers.clear();
-            this.persistentModifiers.clear();
-            this.modifiersByOperation.clear();
-
-            if (carrier.has(MODIFIERS_KEY)) {
-                var persistentTag = carrier.get(MODIFIERS_KEY);
+        if (carrier.has(PERSISTENT_MODIFIERS_KEY)) {
+            var persistentTag = carrier.get(PERSISTENT_MODIFIERS_KEY);
 
-                for (var compoundTag : persistentTag) {
-                    var modifier = AttributeModifier.load(compoundTag);
+            for (var compoundTag : persistentTag) {
+                var modifier = AttributeModifier.load(compoundTag);
 
-                    if (modifier != null) this.addTransientModifier(modifier);
-                }
+                if (modifier != null) this.addPersistentModifier(modifier);
             }
-        } else {
-            if (carrier.has(PERSISTENT_MODIFIERS_KEY)) {
-                var persistentTag = carrier.get(PERSISTENT_MODIFIERS_KEY);
+        }
 
-                for (var compoundTag : persistentTag) {
-                    var modifier = AttributeModifier.load(compoundTag);
+        if (carrier.has(CACHED_MODIFIERS_KEY)) {
+            var cachedTag = carrier.get(PERSISTENT_MODIFIERS_KEY);
 
-                    if (modifier != null) this.addPersistentModifier(modifier);
+            for (CompoundTag compoundTag : cachedTag) {
+                var modifier = AttributeModifier.load(compoundTag);
+
+                if (modifier != null) {
+                    this.cachedModifiers.add(modifier);
+                    this.addTransientModifier(modifier);
                 }
+
+                this.update();
             }
+        }
+    }
+
+    //--
+
+    /**
+     * Creates the delta between the current state of the container and the state last sent to the client,
+     * marking the current state as synced.
+     *
+     * @return The given delta or null if nothing has changed
+     */
+    @Nullable
+    public SyncContainerData.ContainerDelta createSyncDelta(int slotId) {
+        Integer syncedBaseSize = null;
+
+        if (this.baseSize != null && !this.baseSize.equals(this.lastSyncedBaseSize)) {
+            syncedBaseSize = this.baseSize;
+
+            this.lastSyncedBaseSize = this.baseSize;
+        }
+
+        SyncContainerData.ContainerResize resize = null;
 
-            if (carrier.has(CACHED_MODIFIERS_KEY)) {
-                var cachedTag = carrier.get(PERSISTENT_MODIFIERS_KEY);
+        // Both calls are required to consume the flag within each container
+        if (isMaterialized() && (this.accessories.wasNewlyConstructed() | this.cosmeticAccessories.wasNewlyConstructed())) {
+            resize = new SyncContainerData.ContainerResize(this.size, copyStacks(this.accessories), copyStacks(this.cosmeticAccessories));
+        } else if (this.pendingResize) {
+            // Containers resized in place keep their remaining stacks meaning only the new size is required
+            resize = new SyncContainerData.ContainerResize(this.size, List.of(), List.of());
+        }
+
+        this.pendingResize = false;
+
+        List<Boolean> syncedRenderOptions = null;
+
+        if (!this.hiddenRenderOptions.equals(this.lastSyncedHiddenRenderOptions)) {
+            syncedRenderOptions = List.copyOf(this.renderOptions);
+
+            this.lastSyncedHiddenRenderOptions.clear();
+            this.lastSyncedHiddenRenderOptions.or(this.hiddenRenderOptions);
+        }
 
-                for (CompoundTag compoundTag : cachedTag) {
-                    var modifier = AttributeModifier.load(compoundTag);
+        var addedModifiers = new ArrayList<AttributeModifier>();
+        var removedModifiers = new ArrayList<ResourceLocation>();
+
+        this.modifiers.forEach((location, modifier) -> {
+            if (!modifier.equals(this.lastSyncedModifiers.get(location))) addedModifiers.add(modifier);
+        });
+
+        for (var location : this.lastSyncedModifiers.keySet()) {
+            if (!this.modifiers.containsKey(location)) removedModifiers.add(location);
+        }
+
+        if (!addedModifiers.isEmpty() || !removedModifiers.isEmpty()) {
+            this.lastSyncedModifiers.clear();
+            this.lastSyncedModifiers.putAll(this.modifiers);
+        }
+
+        var delta = new SyncContainerData.ContainerDelta(slotId, syncedBaseSize, resize, syncedRenderOptions, addedModifiers, removedModifiers);
+
+        return delta.isEmpty() ? null : delta;
+    }
+
+    /**
+     * Creates the complete state of the container for the client without affecting the state used for deltas as
+     * any given delta can be safely applied on top of the full state.
+     */
+    public SyncEntireContainer.ContainerState createSyncState(int slotId) {
+        return new SyncEntireContainer.ContainerState(
+                slotId,
+                this.baseSize,
+                this.size,
+                List.copyOf(this.renderOptions),
+                List.copyOf(this.modifiers.values()),
+                isMaterialized() ? copyStacks(this.accessories) : emptyStacks(this.size),
+                isMaterialized() ? copyStacks(this.cosmeticAccessories) : emptyStacks(this.size)
+        );
+    }
 
-                    if (modifier != null) {
-                        this.cachedModifiers.add(modifier);
-                        this.addTransientModifier(modifier);
-                    }
+    public void applySyncDelta(SyncContainerData.ContainerDelta delta) {
+        if (delta.baseSize() != null) this.baseSize = delta.baseSize();
+
+        var resize = delta.resize();
+
+        if (resize != null) {
+            this.resizeAndSetStacks(resize.currentSize(), resize.accessories(), resize.cosmetics());
+
+            this.hiddenRenderOptions.clear(this.size, Math.max(this.size, this.hiddenRenderOptions.length()));
+        }
+
+        if (delta.renderOptions() != null) this.setRenderOptions(delta.renderOptions());
+
+        delta.removedModifiers().forEach(this::removeModifier);
+
+        for (var modifier : delta.addedModifiers()) {
+            this.removeModifier(modifier.id());
+            this.addTransientModifier(modifier);
+        }
+    }
+
+    public void applySyncState(SyncEntireContainer.ContainerState state) {
+        this.baseSize = state.baseSize();
+
+        this.resizeAndSetStacks(state.currentSize(), state.accessories(), state.cosmetics());
+
+        this.setRenderOptions(state.renderOptions());
+
+        this.modifiers.clear();
+        this.persistentModifiers.clear();
+        this.modifiersByOperation.clear();
+
+        state.modifiers().forEach(this::addTransientModifier);
+    }
+
+    /**
+     * Resets the container to the state of a newly created container, keeping the backing containers if present as
+     * they may be referenced by an open menu
+     */
+    public void applyDefaultState() {
+        var slotType = this.slotType();
 
-                    this.update();
+        if (slotType != null) this.baseSize = slotType.amount();
+
+        var size = (this.baseSize != null) ? this.baseSize : this.size;
+
+        this.resizeAndSetStacks(size, emptyStacks(size), emptyStacks(size));
+
+        this.hiddenRenderOptions.clear();
+
+        this.modifiers.clear();
+        this.persistentModifiers.clear();
+        this.modifiersByOperation.clear();
+    }
+
+    /**
+     * Applies the appearance sent to players only tracking the entity, with drawn cosmetics placed within the cosmetic
+     * container and any other drawn stack within the accessory container.
+     */
+    public void applyAppearance(SyncAppearance.ContainerAppearance appearance) {
+        if (appearance.size() != null) {
+            var size = appearance.size();
+
+            if (isMaterialized()) {
+                this.resizeContainers(size);
+
+                for (int i = 0; i < size; i++) {
+                    this.accessories.setItem(i, ItemStack.EMPTY);
+                    this.cosmeticAccessories.setItem(i, ItemStack.EMPTY);
                 }
+            } else {
+                this.size = size;
             }
+
+            this.hiddenRenderOptions.clear(this.size, Math.max(this.size, this.hiddenRenderOptions.length()));
+        }
+
+        if (appearance.renderOptions() != null) this.setRenderOptions(appearance.renderOptions());
+
+        for (var drawnStack : appearance.stacks()) {
+            var index = drawnStack.index();
+
+            if (index >= this.size || (drawnStack.stack().isEmpty() && !isMaterialized())) continue;
+
+            this.materialize();
+
+            var stack = drawnStack.stack().copy();
+
+            this.accessories.setItem(index, drawnStack.cosmetic() ? ItemStack.EMPTY : stack);
+            this.cosmeticAccessories.setItem(index, drawnStack.cosmetic() ? stack : ItemStack.EMPTY);
         }
     }
 
-    private <T> List<T> getWithSize(int size, List<T> list, T defaultValue) {
-        var sizedList = new ArrayList<T>(size);
+    /**
+     * Resizes the container to the given size with only the given stacks differing from the currently held stacks being
+     * replaced, any slots not covered by the given lists keep their current stack.
+     */
+    private void resizeAndSetStacks(int currentSize, List<ItemStack> accessories, List<ItemStack> cosmetics) {
+        // Entities without anything equipped are kept sparse on the client
+        if (!isMaterialized() && accessories.stream().allMatch(ItemStack::isEmpty) && cosmetics.stream().allMatch(ItemStack::isEmpty)) {
+            this.size = currentSize;
+
+            return;
+        }
+
+        this.materialize();
+        this.resizeContainers(currentSize);
 
-        for (int i = 0; i < size; i++) {
-            var value = (i < list.size()) ? list.get(i) : defaultValue;
+        // Stacks are copied as the given packet may be shared when using a local connection
+        for (int i = 0; i < Math.min(currentSize, accessories.size()); i++) {
+            if (!ItemStack.matches(this.accessories.getItem(i), accessories.get(i))) this.accessories.setItem(i, accessories.get(i).copy());
+        }
 
-            sizedList.add(value);
+        for (int i = 0; i < Math.min(currentSize, cosmetics.size()); i++) {
+            if (!ItemStack.matches(this.cosmeticAccessories.getItem(i), cosmetics.get(i))) this.cosmeticAccessories.setItem(i, cosmetics.get(i).copy());
         }
+    }
+
+    private static List<ItemStack> copyStacks(ExpandedSimpleContainer container) {
+        var stacks = new ArrayList<ItemStack>(container.getContainerSize());
 
-        return sizedList;
+        for (int i = 0; i < container.getContainerSize(); i++) stacks.add(container.getItem(i).copy());
+
+        return stacks;
+    }
+
+    private static List<ItemStack> emptyStacks(int size) {
+        return Collections.nCopies(size, ItemStack.EMPTY);
     }
 
     public static SimpleContainer readContainer(MapCarrier carrier, SerializationContext ctx, KeyedEndec<ListTag> key){
@@ -500,6 +801,37 @@ public class AccessoriesContainerImpl implements AccessoriesContainer, InstanceE
     }
 
     public static SimpleContainer copyContainerList(SimpleContainer container){
-        return new SimpleContainer(container.getItems().toArray(ItemStack[]::new));
+        // Only the slots within the current size are copied as the backing list may be sized to the containers capacity
+        var stacks = new ItemStack[container.getContainerSize()];
+
+        for (int i = 0; i < stacks.length; i++) stacks[i] = container.getItem(i);
+
+        return new SimpleContainer(stacks);
+    }
+
+    /**
+     * List view over the render option bits sized to the current size of the container
+     */
+    private final class RenderOptionsView extends AbstractList<Boolean> implements RandomAccess {
+        @Override
+        public Boolean get(int index) {
+            Objects.checkIndex(index, size());
+
+            return !hiddenRenderOptions.get(index);
+        }
+
+        @Override
+        public Boolean set(int index, Boolean value) {
+            var prevValue = get(index);
+
+            hiddenRenderOptions.set(index, !value);
+
+            return prevValue;
+        }
+
+        @Override
+        public int size() {
+            return AccessoriesContainerImpl.this.size;
+        }
     }
 }
@@ -15,18 +15,15 @@ import io.wispforest.accessories.api.events.*;
 import io.wispforest.accessories.api.slot.SlotEntryReference;
 import io.wispforest.accessories.api.slot.SlotReference;
 import io.wispforest.accessories.api.slot.SlotType;
-import io.wispforest.accessories.api.slot.UniqueSlotHandling;
 import io.wispforest.accessories.client.AccessoriesMenu;
 import io.wispforest.accessories.data.EntitySlotLoader;
 import io.wispforest.accessories.data.SlotTypeLoader;
-import io.wispforest.accessories.endec.NbtMapCarrier;
-import io.wispforest.accessories.endec.RegistriesAttribute;
 import io.wispforest.accessories.mixin.ItemStackAccessor;
-import io.wispforest.accessories.networking.client.SyncEntireContainer;
+import io.wispforest.accessories.networking.AccessoriesSyncing;
 import io.wispforest.accessories.networking.client.SyncContainerData;
 import io.wispforest.accessories.networking.client.SyncData;
-import io.wispforest.accessories.utils.AttributeUtils;
-import io.wispforest.endec.SerializationContext;
+import io.wispforest.accessories.networking.client.SyncDataHash;
+import io.wispforest.accessories.utils.AttributeModifierDelta;
 import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.Holder;
@@ -34,6 +31,7 @@ import net.minecraft.core.component.DataComponentType;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.players.PlayerList;
@@ -75,10 +73,22 @@ public class AccessoriesEventHandler {
         revalidatePlayersOnReload(serverLevel.getServer().getPlayerList());
     }
 
+    public static void onServerTickEnd(MinecraftServer server) {
+        ReloadRevalidationScheduler.tick(server);
+
+        AccessoriesInternals.getNetworkHandler().flushQueue();
+
+        AccessoriesMetrics.onServerTickEnd();
+    }
+
+    public static void onServerStopping(MinecraftServer server) {
+        ReloadRevalidationScheduler.clear();
+    }
+
     public static void revalidatePlayersOnReload(PlayerList playerList) {
         if (!dataReloadOccurred) return;
 
-        for (var player : playerList.getPlayers()) revalidatePlayer(player);
+        ReloadRevalidationScheduler.schedule(playerList);
 
         dataReloadOccurred = false;
     }
@@ -146,11 +156,7 @@ public class AccessoriesEventHandler {
 
         if (capability == null) return;
 
-        var carrier = NbtMapCarrier.of();
-
-        ((AccessoriesHolderImpl) capability.getHolder()).write(carrier, SerializationContext.attributes(RegistriesAttribute.of(level.registryAccess())));
-
-        AccessoriesInternals.getNetworkHandler().sendToTrackingAndSelf(serverPlayer, new SyncEntireContainer(capability.entity().getId(), carrier));
+        AccessoriesSyncing.queueFullSync(serverPlayer);
     }
 
     public static void onTracking(LivingEntity entity, ServerPlayer serverPlayer) {
@@ -158,40 +164,47 @@ public class AccessoriesEventHandler {
 
         if (capability == null) return;
 
-        var carrier = NbtMapCarrier.of();
+        // Newly tracked entities already start with the default state on the client
+        if (((AccessoriesHolderImpl) capability.getHolder()).isEmpty()) {
+            AccessoriesMetrics.TRACKING_SYNCS_ELIDED.increment();
 
-        ((AccessoriesHolderImpl) capability.getHolder()).write(carrier, SerializationContext.attributes(RegistriesAttribute.of(entity.level().registryAccess())));
+            return;
+        }
 
-        AccessoriesInternals.getNetworkHandler().sendToPlayer(serverPlayer, new SyncEntireContainer(capability.entity().getId(), carrier));
+        AccessoriesSyncing.queueFullSync(serverPlayer, entity);
     }
 
     public static void dataSync(@Nullable PlayerList list, @Nullable ServerPlayer player) {
+        // Item tags are only bound after all reload listeners have been applied
+        if (list != null) SlotValidationIndex.invalidate();
+
         var networkHandler = AccessoriesInternals.getNetworkHandler();
-        var syncPacket = SyncData.create();
 
         if (list != null && !list.getPlayers().isEmpty()) {
-            revalidatePlayersOnReload(list);
+            var previousHash = SyncData.currentHash();
+            var syncPacket = SyncData.current(list.getServer().registryAccess());
 
-            // TODO: OPTIMIZE THIS?
-            for (var playerEntry : list.getPlayers()) {
-                networkHandler.sendToPlayer(playerEntry, syncPacket);
-
-                var capability = AccessoriesCapability.get(playerEntry);
-
-                if (capability == null) return;
-
-                var carrier = NbtMapCarrier.of();
+            // Clients already hold the unchanged definitions with changed definitions being sent right away as
+            // holders and open menus are resynced using the new definitions within the following ticks
+            if (previousHash.isPresent() && previousHash.getAsLong() == syncPacket.hash()) {
+                networkHandler.sendToAllPlayers(list.getServer(), new SyncDataHash(syncPacket.hash()));
+            } else {
+                networkHandler.sendToAllPlayers(list.getServer(), syncPacket);
+            }
 
-                ((AccessoriesHolderImpl) capability.getHolder()).write(carrier, SerializationContext.attributes(RegistriesAttribute.of(playerEntry.level().registryAccess())));
+            // Revalidation and the resyncing of holders is spread over the following ticks
+            ReloadRevalidationScheduler.schedule(list);
 
-                networkHandler.sendToTrackingAndSelf(playerEntry, new SyncEntireContainer(capability.entity().getId(), carrier));
+            dataReloadOccurred = false;
+        } else if (player != null) {
+            var syncPacket = SyncData.current(player.server.registryAccess());
 
-                if (playerEntry.containerMenu instanceof AccessoriesMenu accessoriesMenu) {
-                    Accessories.openAccessoriesMenu(playerEntry, accessoriesMenu.targetEntity());
-                }
+            // Joining clients only require the definitions if not already cached for the given hash
+            if (player.containerMenu instanceof AccessoriesMenu) {
+                networkHandler.sendToPlayer(player, syncPacket);
+            } else {
+                networkHandler.sendToPlayer(player, new SyncDataHash(syncPacket.hash()));
             }
-        } else if (player != null) {
-            networkHandler.sendToPlayer(player, syncPacket);
 
             revalidatePlayer(player);
 
@@ -199,13 +212,11 @@ public class AccessoriesEventHandler {
 
             if (capability == null) return;
 
-            var carrier = NbtMapCarrier.of();
-
-            ((AccessoriesHolderImpl) capability.getHolder()).write(carrier, SerializationContext.attributes(RegistriesAttribute.of(player.level().registryAccess())));
-
-            networkHandler.sendToPlayer(player, new SyncEntireContainer(capability.entity().getId(), carrier));
+            AccessoriesSyncing.queueFullSync(player, player);
 
             if (player.containerMenu instanceof AccessoriesMenu accessoriesMenu) {
+                networkHandler.flushQueue(player);
+
                 Accessories.openAccessoriesMenu(player, accessoriesMenu.targetEntity());
             }
         }
@@ -217,143 +228,322 @@ public class AccessoriesEventHandler {
         var capability = AccessoriesCapability.get(entity);
 
         if (capability != null) {
-            var dirtyStacks = new HashMap<String, ItemStack>();
-            var dirtyCosmeticStacks = new HashMap<String, ItemStack>();
+            var containers = capability.getContainers().values();
 
-            var removedAttributesBuilder = new AccessoryAttributeBuilder();
-            var addedAttributesBuilder = new AccessoryAttributeBuilder();
+            var index = ((AccessoriesCapabilityImpl) capability).getEquippedIndex();
 
-            for (var containerEntry : capability.getContainers().entrySet()) {
-                var container = containerEntry.getValue();
-                var slotType = container.slotType();
+            var tickRate = getAccessoryTickRate(entity, index);
 
-                var accessories = container.getAccessories();
-                var cosmetics = container.getCosmeticAccessories();
+            if (tickRate == AccessoryTickRate.FULL || tickRate == AccessoryTickRate.REDUCED) {
+                var accessoryTicks = 0;
 
-                for (int i = 0; i < accessories.getContainerSize(); i++) {
-                    var slotReference = container.createReference(i);
+                // Only stacks with an accessory declaring a tick interval or an item with an inventory tick are ticked
+                for (var tickable : index.tickables()) {
+                    if (!tickable.isCurrent()) continue;
 
-                    var slotId = slotType.name() + "/" + i;
+                    var currentStack = tickable.entryReference().stack();
 
-                    var currentStack = accessories.getItem(i);
+                    // TODO: Document this behavior to prevent double ticking maybe!!!
+                    if (tickable.inventoryTick()) currentStack.inventoryTick(entity.level(), entity, -1, false);
 
-                    // TODO: Move ticking below checks?
-                    if (!currentStack.isEmpty()) {
-                        // TODO: Document this behavior to prevent double ticking maybe!!!
-                        currentStack.inventoryTick(entity.level(), entity, -1, false);
+                    var tickInterval = tickable.tickInterval();
 
-                        var accessory = AccessoriesAPI.getOrDefaultAccessory(currentStack);
+                    if (tickInterval > 0 && shouldTickAccessory(entity, tickRate, tickInterval)) {
+                        tickable.accessory().tick(currentStack, tickable.entryReference().reference());
 
-                        if (accessory != null) accessory.tick(currentStack, slotReference);
+                        accessoryTicks++;
                     }
+                }
 
-                    var lastStack = accessories.getPreviousItem(i);
+                // Metrics are only rolled over on server ticks meaning client side ticks are not counted
+                if (accessoryTicks > 0 && !entity.level().isClientSide()) AccessoriesMetrics.ACCESSORY_TICKS.add(accessoryTicks);
+            } else if (tickRate == AccessoryTickRate.SKIPPED && !entity.level().isClientSide()) {
+                AccessoriesMetrics.ACCESSORY_PASSES_THROTTLED.increment();
+            }
 
-                    if (entity.level().isClientSide()) continue;
+            if (entity.level().isClientSide()) return;
 
-                    if (!ItemStack.matches(currentStack, lastStack)) {
-                        container.getAccessories().setPreviousItem(i, currentStack.copy());
-                        dirtyStacks.put(slotId, currentStack.copy());
+            var fullScan = Accessories.getConfig().serverData.fullSlotChangeScan;
 
-                        if (!lastStack.isEmpty()) {
-                            removedAttributesBuilder.addFrom(AccessoriesAPI.getAttributeModifiers(lastStack, slotReference));
-                        }
+            // Entities with nothing equipped have their pass paused until a container is mutated or requires an update
+            if (tickRate == AccessoryTickRate.PAUSED && !fullScan && !hasPendingChanges(capability, containers)) {
+                AccessoriesMetrics.ACCESSORY_PASSES_PAUSED.increment();
+            } else {
+                handleSlotChanges(entity, capability, containers, fullScan);
+            }
+        }
 
-                        if (!currentStack.isEmpty()) {
-                            addedAttributesBuilder.addFrom(AccessoriesAPI.getAttributeModifiers(currentStack, slotReference));
-                        }
+        //--
 
-                        boolean equipmentChange = false;
+        var holder = ((AccessoriesHolderImpl) AccessoriesInternals.getHolder(entity));
 
-                        /*
-                         * TODO: Does item check need to exist anymore?
-                         */
-                        if (!ItemStack.isSameItem(currentStack, lastStack) || accessories.isSlotFlagged(i)) {
-                            AccessoriesAPI.getOrDefaultAccessory(lastStack).onUnequip(lastStack, slotReference);
-                            AccessoriesAPI.getOrDefaultAccessory(currentStack).onEquip(currentStack, slotReference);
+        // Fix for holder data not being loaded so invalid stacks can be collected
+        if (holder.loadedFromTag && capability == null) {
+            var tempCapability = new AccessoriesCapabilityImpl(entity);
+        }
 
-                            if (entity instanceof ServerPlayer serverPlayer) {
-                                if (!currentStack.isEmpty()) {
-                                    ACCESSORY_EQUIPPED.trigger(serverPlayer, currentStack, slotReference, false);
-                                }
+        var invalidStacks = (holder).invalidStacks;
 
-                                if (!lastStack.isEmpty()) {
-                                    ACCESSORY_UNEQUIPPED.trigger(serverPlayer, lastStack, slotReference, false);
-                                }
-                            }
+        if (!invalidStacks.isEmpty()) {
+            for (ItemStack invalidStack : invalidStacks) {
+                if (entity instanceof ServerPlayer serverPlayer) {
+                    AccessoriesInternals.giveItemToPlayer(serverPlayer, invalidStack);
+                } else {
+                    entity.spawnAtLocation(invalidStack);
+                }
+            }
 
-                            equipmentChange = true;
-                        }
+            invalidStacks.clear();
+        }
+    }
 
-                        AccessoryChangeCallback.EVENT.invoker().onChange(lastStack, currentStack, slotReference, equipmentChange ? SlotStateChange.REPLACEMENT : SlotStateChange.MUTATION);
+    private static void handleSlotChanges(LivingEntity entity, AccessoriesCapability capability, Collection<AccessoriesContainer> containers, boolean fullScan) {
+        var changes = new SlotChanges();
 
-                        recursiveStackChange(slotReference, AccessoryNestUtils.getData(lastStack), AccessoryNestUtils.getData(currentStack));
-                    }
+        for (var container : containers) {
+            // Unmaterialized containers have never held a stack meaning nothing could have changed
+            if (!((AccessoriesContainerImpl) container).isMaterialized()) continue;
 
-                    var currentCosmeticStack = cosmetics.getItem(i);
-                    var lastCosmeticStack = container.getCosmeticAccessories().getPreviousItem(i);
+            var accessories = container.getAccessories();
+            var cosmetics = container.getCosmeticAccessories();
 
-                    if (!ItemStack.matches(currentCosmeticStack, lastCosmeticStack)) {
-                        cosmetics.setPreviousItem(i, currentCosmeticStack.copy());
-                        dirtyCosmeticStacks.put(slotId, currentCosmeticStack.copy());
+            if (fullScan) {
+                for (int i = 0; i < accessories.getContainerSize(); i++) {
+                    accessories.clearChangedSlot(i);
+                    cosmetics.clearChangedSlot(i);
 
-                        if (entity instanceof ServerPlayer serverPlayer) {
-                            if (!currentStack.isEmpty()) {
-                                ACCESSORY_EQUIPPED.trigger(serverPlayer, currentStack, slotReference, true);
-                            }
-                            if (!lastStack.isEmpty()) {
-                                ACCESSORY_UNEQUIPPED.trigger(serverPlayer, lastStack, slotReference, true);
-                            }
-                        }
-                    }
+                    handleAccessoryChange(entity, container, i, changes);
+                    handleCosmeticChange(entity, container, i, changes);
+                }
+            } else {
+                for (int i = accessories.nextChangedSlot(0); i >= 0; i = accessories.nextChangedSlot(i + 1)) {
+                    accessories.clearChangedSlot(i);
+
+                    handleAccessoryChange(entity, container, i, changes);
+                }
+
+                for (int i = cosmetics.nextChangedSlot(0); i >= 0; i = cosmetics.nextChangedSlot(i + 1)) {
+                    cosmetics.clearChangedSlot(i);
+
+                    handleCosmeticChange(entity, container, i, changes);
                 }
             }
+        }
 
-            if (entity.level().isClientSide()) return;
+        if (changes.attributeDelta != null) changes.attributeDelta.apply(entity);
 
-            AttributeUtils.removeTransientAttributeModifiers(entity, removedAttributesBuilder);
-            AttributeUtils.addTransientAttributeModifiers(entity, addedAttributesBuilder);
+        //--
 
-            //--
+        var updatedContainers = ((AccessoriesCapabilityImpl) capability).getUpdatingInventories();
 
-            var updatedContainers = ((AccessoriesCapabilityImpl) capability).getUpdatingInventories();
+        capability.updateContainers();
 
-            capability.updateContainers();
+        ContainersChangeCallback.EVENT.invoker().onChange(entity, capability, ImmutableMap.copyOf(updatedContainers));
 
-            ContainersChangeCallback.EVENT.invoker().onChange(entity, capability, ImmutableMap.copyOf(updatedContainers));
+        if (changes.hasDirtyStacks() || !updatedContainers.isEmpty()) {
+            ((AccessoriesCapabilityImpl) capability).holder().markStateChanged();
 
-            if (!dirtyStacks.isEmpty() || !dirtyCosmeticStacks.isEmpty() || !updatedContainers.isEmpty()) {
-                var packet = SyncContainerData.of(entity, updatedContainers.keySet(), dirtyStacks, dirtyCosmeticStacks);
+            var packet = SyncContainerData.of(entity, updatedContainers.keySet(), changes.dirtyStacks(), changes.dirtyCosmeticStacks());
 
-                var networkHandler = AccessoriesInternals.getNetworkHandler();
+            if (!packet.isEmpty()) {
+                AccessoriesSyncing.queueChanges(entity, capability, packet);
 
-                networkHandler.sendToTrackingAndSelf(entity, packet);
+                if (packet.hasResizedContainers()) rebuildOpenMenus(entity);
             }
+        }
+
+        updatedContainers.clear();
+    }
 
-            updatedContainers.clear();
+    /**
+     * Rebuilds the accessory slots of any open menu showing the given entity with the queued sync being sent right away,
+     * as the client must resize the containers and rebuild its menu before receiving any slot updates for the new layout.
+     * The full menu state is then resent under a new state id, rejecting clicks still made against the previous layout.
+     */
+    private static void rebuildOpenMenus(LivingEntity entity) {
+        var server = entity.getServer();
+
+        if (server == null) return;
+
+        var networkHandler = AccessoriesInternals.getNetworkHandler();
+
+        for (var player : server.getPlayerList().getPlayers()) {
+            if (!(player.containerMenu instanceof AccessoriesMenu menu) || menu.accessoryTarget() != entity) continue;
+
+            menu.rebuildAccessorySlots();
+
+            networkHandler.flushQueue(player);
+
+            menu.sendRebuiltState();
         }
+    }
 
-        //--
+    private enum AccessoryTickRate {
+        FULL,
+        REDUCED,
+        SKIPPED,
+        PAUSED
+    }
 
-        var holder = ((AccessoriesHolderImpl) AccessoriesInternals.getHolder(entity));
+    private static AccessoryTickRate getAccessoryTickRate(LivingEntity entity, EquippedIndex index) {
+        if (entity instanceof Player) return AccessoryTickRate.FULL;
 
-        // Fix for holder data not being loaded so invalid stacks can be collected
-        if (holder.loadedFromTag && capability == null) {
-            var tempCapability = new AccessoriesCapabilityImpl(entity);
+        if (index.entries().isEmpty()) return AccessoryTickRate.PAUSED;
+
+        var config = Accessories.getConfig().serverData;
+
+        var reducedInterval = config.reducedAccessoryTickInterval;
+
+        if (!config.throttleNonPlayerAccessoryTicking || reducedInterval <= 1) return AccessoryTickRate.FULL;
+
+        var distance = config.reducedAccessoryTickDistance;
+
+        if (entity.level().hasNearbyAlivePlayer(entity.getX(), entity.getY(), entity.getZ(), distance)) return AccessoryTickRate.FULL;
+
+        // Offset by the entity id to spread the reduced passes of various entities across ticks
+        return ((entity.tickCount + entity.getId()) % reducedInterval == 0) ? AccessoryTickRate.REDUCED : AccessoryTickRate.SKIPPED;
+    }
+
+    private static boolean shouldTickAccessory(LivingEntity entity, AccessoryTickRate tickRate, int tickInterval) {
+        if (tickRate != AccessoryTickRate.REDUCED) return tickInterval == 1 || entity.tickCount % tickInterval == 0;
+
+        var reducedInterval = Accessories.getConfig().serverData.reducedAccessoryTickInterval;
+
+        // Reduced rate passes tick the accessory at most once for each of its intervals that elapsed since the last pass,
+        // meaning accessories with an interval longer than the reduced interval keep their own interval
+        return Math.floorDiv(entity.tickCount, tickInterval) != Math.floorDiv(entity.tickCount - reducedInterval, tickInterval);
+    }
+
+    private static boolean hasPendingChanges(AccessoriesCapability capability, Collection<AccessoriesContainer> containers) {
+        if (!((AccessoriesCapabilityImpl) capability).getUpdatingInventories().isEmpty()) return true;
+
+        for (var container : containers) {
+            if (!((AccessoriesContainerImpl) container).isMaterialized()) continue;
+
+            if (container.getAccessories().hasChangedSlots() || container.getCosmeticAccessories().hasChangedSlots()) return true;
         }
 
-        var invalidStacks = (holder).invalidStacks;
+        return false;
+    }
 
-        if (!invalidStacks.isEmpty()) {
-            for (ItemStack invalidStack : invalidStacks) {
-                if (entity instanceof ServerPlayer serverPlayer) {
-                    AccessoriesInternals.giveItemToPlayer(serverPlayer, invalidStack);
-                } else {
-                    entity.spawnAtLocation(invalidStack);
+    private static void handleAccessoryChange(LivingEntity entity, AccessoriesContainer container, int i, SlotChanges changes) {
+        var accessories = container.getAccessories();
+
+        if (i >= accessories.getContainerSize()) return;
+
+        var currentStack = accessories.getItem(i);
+        var lastStack = accessories.getPreviousItem(i);
+
+        if (ItemStack.matches(currentStack, lastStack)) return;
+
+        var slotReference = container.createReference(i);
+
+        accessories.setPreviousItem(i, currentStack.copy());
+        changes.addDirtyStack(container, i, currentStack.copy(), false);
+
+        if (!lastStack.isEmpty() || !currentStack.isEmpty()) {
+            changes.attributeDelta().addChange(
+                    AccessoriesAPI.getAttributeModifiers(lastStack, slotReference),
+                    AccessoriesAPI.getAttributeModifiers(currentStack, slotReference)
+            );
+        }
+
+        boolean equipmentChange = false;
+
+        /*
+         * TODO: Does item check need to exist anymore?
+         */
+        if (!ItemStack.isSameItem(currentStack, lastStack) || accessories.isSlotFlagged(i)) {
+            AccessoriesAPI.getOrDefaultAccessory(lastStack).onUnequip(lastStack, slotReference);
+            AccessoriesAPI.getOrDefaultAccessory(currentStack).onEquip(currentStack, slotReference);
+
+            if (entity instanceof ServerPlayer serverPlayer) {
+                if (!currentStack.isEmpty()) {
+                    ACCESSORY_EQUIPPED.trigger(serverPlayer, currentStack, slotReference, false);
+                }
+
+                if (!lastStack.isEmpty()) {
+                    ACCESSORY_UNEQUIPPED.trigger(serverPlayer, lastStack, slotReference, false);
                 }
             }
 
-            invalidStacks.clear();
+            equipmentChange = true;
+        }
+
+        AccessoryChangeCallback.EVENT.invoker().onChange(lastStack, currentStack, slotReference, equipmentChange ? SlotStateChange.REPLACEMENT : SlotStateChange.MUTATION);
+
+        recursiveStackChange(slotReference, AccessoryNestUtils.getData(lastStack), AccessoryNestUtils.getData(currentStack));
+    }
+
+    private static void handleCosmeticChange(LivingEntity entity, AccessoriesContainer container, int i, SlotChanges changes) {
+        var cosmetics = container.getCosmeticAccessories();
+
+        if (i >= cosmetics.getContainerSize()) return;
+
+        var currentCosmeticStack = cosmetics.getItem(i);
+        var lastCosmeticStack = cosmetics.getPreviousItem(i);
+
+        if (ItemStack.matches(currentCosmeticStack, lastCosmeticStack)) return;
+
+        cosmetics.setPreviousItem(i, currentCosmeticStack.copy());
+        changes.addDirtyStack(container, i, currentCosmeticStack.copy(), true);
+
+        if (entity instanceof ServerPlayer serverPlayer) {
+            var slotReference = container.createReference(i);
+
+            if (!currentCosmeticStack.isEmpty()) {
+                ACCESSORY_EQUIPPED.trigger(serverPlayer, currentCosmeticStack, slotReference, true);
+            }
+            if (!lastCosmeticStack.isEmpty()) {
+                ACCESSORY_UNEQUIPPED.trigger(serverPlayer, lastCosmeticStack, slotReference, true);
+            }
+        }
+    }
+
+    /**
+     * Lazily allocated holder for the changes found within a single tick pass so that entities without any
+     * changes do not allocate anything
+     */
+    private static final class SlotChanges {
+        @Nullable private List<SyncContainerData.DirtyStack> dirtyStacks = null;
+        @Nullable private List<SyncContainerData.DirtyStack> dirtyCosmeticStacks = null;
+
+        @Nullable private AttributeModifierDelta attributeDelta = null;
+
+        private void addDirtyStack(AccessoriesContainer container, int index, ItemStack stack, boolean isCosmetic) {
+            var slotId = SlotTypeLoader.INSTANCE.getSlotIds(false).getId(container.getSlotName());
+
+            if (slotId == -1) return;
+
+            var dirtyStack = new SyncContainerData.DirtyStack(slotId, index, stack);
+
+            if (isCosmetic) {
+                if (this.dirtyCosmeticStacks == null) this.dirtyCosmeticStacks = new ArrayList<>();
+
+                this.dirtyCosmeticStacks.add(dirtyStack);
+            } else {
+                if (this.dirtyStacks == null) this.dirtyStacks = new ArrayList<>();
+
+                this.dirtyStacks.add(dirtyStack);
+            }
+        }
+
+        private List<SyncContainerData.DirtyStack> dirtyStacks() {
+            return (this.dirtyStacks != null) ? this.dirtyStacks : List.of();
+        }
+
+        private List<SyncContainerData.DirtyStack> dirtyCosmeticStacks() {
+            return (this.dirtyCosmeticStacks != null) ? this.dirtyCosmeticStacks : List.of();
+        }
+
+        private AttributeModifierDelta attributeDelta() {
+            if (this.attributeDelta == null) this.attributeDelta = new AttributeModifierDelta();
+
+            return this.attributeDelta;
+        }
+
+        private boolean hasDirtyStacks() {
+            return this.dirtyStacks != null || this.dirtyCosmeticStacks != null;
         }
     }
 
@@ -437,7 +627,7 @@ public class AccessoriesEventHandler {
         var validSlotTypes = new HashSet<>(AccessoriesAPI.getValidSlotTypes(entity, stack));
 
         var validUniqueSlots = validSlotTypes.stream()
-                .filter(slotType -> UniqueSlotHandling.isUniqueSlot(slotType.name()))
+                .filter(slotType -> slotType.isUnique())
                 .collect(Collectors.toSet());
 
         if (validSlotTypes.isEmpty()) return;
@@ -446,7 +636,7 @@ public class AccessoriesEventHandler {
 
         var sharedSlotTypes = SlotTypeLoader.getSlotTypes(entity.level()).values()
                 .stream()
-                .filter(slotType -> /*slotType.amount() > 0 &&*/ !UniqueSlotHandling.isUniqueSlot(slotType.name()))
+                .filter(slotType -> /*slotType.amount() > 0 &&*/ !slotType.isUnique())
                 .collect(Collectors.toSet());
 
         var slotInfoComponent = Component.literal("");
@@ -655,6 +845,8 @@ public class AccessoriesEventHandler {
 
             var container = containerEntry.getValue();
 
+            if (!((AccessoriesContainerImpl) container).isMaterialized()) continue;
+
             var stacks = container.getAccessories();
             var cosmeticStacks = container.getCosmeticAccessories();
 
@@ -4,9 +4,13 @@ import com.mojang.logging.LogUtils;
 import io.wispforest.accessories.Accessories;
 import io.wispforest.accessories.api.*;
 import io.wispforest.accessories.data.EntitySlotLoader;
+import io.wispforest.accessories.data.SlotIdLookup;
+import io.wispforest.accessories.data.SlotTypeLoader;
 import io.wispforest.accessories.endec.NbtMapCarrier;
 import io.wispforest.accessories.endec.RegistriesAttribute;
 import io.wispforest.accessories.endec.format.nbt.NbtEndec;
+import io.wispforest.accessories.networking.client.SyncAppearance;
+import io.wispforest.accessories.networking.client.SyncEntireContainer;
 import io.wispforest.endec.Endec;
 import io.wispforest.endec.SerializationAttribute;
 import io.wispforest.endec.SerializationContext;
@@ -18,6 +22,7 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.*;
@@ -31,8 +36,12 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
 
     private final Map<String, AccessoriesContainer> slotContainers = new LinkedHashMap<>();
 
+    // Contiguous stacks of every materialized container with each container viewing its own slice
+    private final AccessoriesHolderStorage storage = new AccessoriesHolderStorage();
+
     public final List<ItemStack> invalidStacks = new ArrayList<>();
     protected final Map<AccessoriesContainer, Boolean> containersRequiringUpdates = new HashMap<>();
+    protected final ContainerUpdateScheduler updateScheduler = new ContainerUpdateScheduler();
 
     private boolean showUnusedSlots = false;
     private boolean showUniqueSlots = false;
@@ -48,6 +57,12 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
     private MapCarrier carrier;
     protected boolean loadedFromTag = false;
 
+    // Shared full sync state for players starting to track the given entity, invalidated when the state version changes
+    private int stateVersion = 0;
+    @Nullable private SyncEntireContainer syncSnapshot = null;
+    private int syncSnapshotVersion = -1;
+    @Nullable private SlotIdLookup syncSnapshotIds = null;
+
     public AccessoriesHolderImpl(){}
 
     public static AccessoriesHolderImpl of(){
@@ -72,6 +87,7 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
     @Override
     public AccessoriesHolder cosmeticsShown(boolean value) {
         this.cosmeticsShown = value;
+        this.markStateChanged();
 
         return this;
     }
@@ -96,6 +112,7 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
     @Override
     public AccessoriesHolder linesShown(boolean value) {
         this.linesShown = value;
+        this.markStateChanged();
 
         return this;
     }
@@ -132,11 +149,60 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
     @Override
     public AccessoriesHolder equipControl(PlayerEquipControl value) {
         this.equipControl = value;
+        this.markStateChanged();
 
         return this;
     }
 
+    /**
+     * @return If the holder only contains default state with none of its containers holding any stacks, modifiers or changed render options
+     */
+    public boolean isEmpty() {
+        if (this.cosmeticsShown || this.linesShown || this.equipControl != PlayerEquipControl.MUST_CROUCH) return false;
+
+        for (var container : this.slotContainers.values()) {
+            if (!((AccessoriesContainerImpl) container).isEmpty()) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Invalidates the shared sync snapshot, called whenever the synced state of the holder or its containers changes
+     */
+    public void markStateChanged() {
+        this.stateVersion++;
+    }
+
+    int stateVersion() {
+        return this.stateVersion;
+    }
+
+    /**
+     * @return The full sync state for the given entity, reusing the previously created state if nothing has changed since
+     */
+    public SyncEntireContainer getSyncSnapshot(AccessoriesCapability capability) {
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(false);
+
+        // Slot ids are reassigned on reload meaning the snapshot must be recreated
+        if (this.syncSnapshot != null && this.syncSnapshotVersion == this.stateVersion && this.syncSnapshotIds == slotIds && this.syncSnapshot.entityId() == capability.entity().getId()) {
+            AccessoriesMetrics.HOLDER_SNAPSHOT_HITS.increment();
+
+            return this.syncSnapshot;
+        }
+
+        AccessoriesMetrics.HOLDER_SNAPSHOT_MISSES.increment();
+
+        this.syncSnapshot = SyncEntireContainer.create(capability);
+        this.syncSnapshotVersion = this.stateVersion;
+        this.syncSnapshotIds = slotIds;
+
+        return this.syncSnapshot;
+    }
+
     public void init(AccessoriesCapability capability) {
+        this.markStateChanged();
+
         var livingEntity = capability.entity();
 
         //this.slotContainers.clear();
@@ -151,7 +217,7 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
 
         if (loadedFromTag) {
             entitySlots.forEach((s, slotType) -> {
-                this.slotContainers.putIfAbsent(s, new AccessoriesContainerImpl(capability, slotType));
+                this.slotContainers.putIfAbsent(s, new AccessoriesContainerImpl(capability, slotType, this.storage));
             });
 
             var ctx = SerializationContext.attributes(
@@ -162,11 +228,91 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
             read(capability, livingEntity, this.carrier, ctx);
         } else {
             entitySlots.forEach((s, slotType) -> {
-                this.slotContainers.put(s, new AccessoriesContainerImpl(capability, slotType));
+                var prevContainer = this.slotContainers.put(s, new AccessoriesContainerImpl(capability, slotType, this.storage));
+
+                if (prevContainer != null) ((AccessoriesContainerImpl) prevContainer).releaseStorage();
             });
         }
     }
 
+    /**
+     * Applies the full state sent by the server replacing any pending tag data that would otherwise be read on {@link #init}
+     */
+    public void applySyncState(AccessoriesCapability capability, SyncEntireContainer packet) {
+        this.loadedFromTag = false;
+        this.carrier = EMPTY;
+        this.markStateChanged();
+
+        this.cosmeticsShown = packet.cosmeticsShown();
+        this.linesShown = packet.linesShown();
+        this.equipControl = packet.equipControl();
+
+        EntitySlotLoader.getEntitySlots(capability.entity()).forEach((s, slotType) -> {
+            this.slotContainers.putIfAbsent(s, new AccessoriesContainerImpl(capability, slotType, this.storage));
+        });
+
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(true);
+
+        for (var state : packet.containers()) {
+            var slotName = slotIds.getName(state.slotId());
+            var container = (slotName != null) ? this.slotContainers.get(slotName) : null;
+
+            if (container == null) {
+                LOGGER.warn("Unable to sync container state for a given slot as it is not found on the Client! [SlotId: {}, SlotName: {}]", state.slotId(), slotName);
+
+                continue;
+            }
+
+            ((AccessoriesContainerImpl) container).applySyncState(state);
+        }
+
+        capability.clearCachedSlotModifiers();
+    }
+
+    /**
+     * Resets the holder to the default state of the entity as the server only informs the client that the holder is empty
+     */
+    public void applyDefaultState(AccessoriesCapability capability) {
+        this.loadedFromTag = false;
+        this.carrier = EMPTY;
+        this.markStateChanged();
+
+        this.cosmeticsShown = false;
+        this.linesShown = false;
+        this.equipControl = PlayerEquipControl.MUST_CROUCH;
+
+        EntitySlotLoader.getEntitySlots(capability.entity()).forEach((s, slotType) -> {
+            this.slotContainers.putIfAbsent(s, new AccessoriesContainerImpl(capability, slotType, this.storage));
+        });
+
+        for (var container : this.slotContainers.values()) {
+            ((AccessoriesContainerImpl) container).applyDefaultState();
+        }
+
+        capability.clearCachedSlotModifiers();
+    }
+
+    public void applyAppearance(AccessoriesCapability capability, SyncAppearance packet) {
+        EntitySlotLoader.getEntitySlots(capability.entity()).forEach((s, slotType) -> {
+            this.slotContainers.putIfAbsent(s, new AccessoriesContainerImpl(capability, slotType, this.storage));
+        });
+
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(true);
+
+        for (var appearance : packet.containers()) {
+            var slotName = slotIds.getName(appearance.slotId());
+            var container = (slotName != null) ? this.slotContainers.get(slotName) : null;
+
+            if (container == null) {
+                LOGGER.warn("Unable to sync container appearance for a given slot as it is not found on the Client! [SlotId: {}, SlotName: {}]", appearance.slotId(), slotName);
+
+                continue;
+            }
+
+            ((AccessoriesContainerImpl) container).applyAppearance(appearance);
+        }
+    }
+
     // TODO: SPLIT DECODING AND VALIDATION SAFETY DOWN THE ROAD
     private static final KeyedEndec<Map<String, AccessoriesContainer>> CONTAINERS_KEY = NbtEndec.COMPOUND.xmapWithContext(
             (ctx, containersMap) -> {
@@ -182,14 +328,22 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
                     if (containerElement.isEmpty()) continue; // TODO: Handle this case?
 
                     if (slots.containsKey(key)) {
-                        var container = slotContainers.get(key);
+                        var container = (AccessoriesContainerImpl) slotContainers.get(key);
+
+                        // Unmaterialized containers are empty meaning nothing could become invalid
+                        if (!container.isMaterialized()) {
+                            container.read(new NbtMapCarrier(containerElement), ctx);
+
+                            continue;
+                        }
+
                         var prevAccessories = AccessoriesContainerImpl.copyContainerList(container.getAccessories());
                         var prevCosmetics = AccessoriesContainerImpl.copyContainerList(container.getCosmeticAccessories());
 
-                        ((AccessoriesContainerImpl) container).read(new NbtMapCarrier(containerElement), ctx);
+                        container.read(new NbtMapCarrier(containerElement), ctx);
 
                         if (prevAccessories.getContainerSize() > container.getSize()) {
-                            for (int i = container.getSize() - 1; i < prevAccessories.getContainerSize(); i++) {
+                            for (int i = container.getSize(); i < prevAccessories.getContainerSize(); i++) {
                                 var prevStack = prevAccessories.getItem(i);
 
                                 if (!prevStack.isEmpty()) invalidStacks.add(prevStack);
@@ -229,7 +383,8 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
 
     @Override
     public void write(MapCarrier carrier, SerializationContext ctx) {
-        if(slotContainers.isEmpty()) return;
+        // Holders without any non default state are skipped as the same state is created when the entity is loaded again
+        if(slotContainers.isEmpty() || this.isEmpty()) return;
 
         carrier.put(COSMETICS_SHOWN_KEY, this.cosmeticsShown);
         carrier.put(LINES_SHOWN_KEY, this.linesShown);
@@ -244,6 +399,7 @@ public class AccessoriesHolderImpl implements AccessoriesHolder, InstanceEndec {
 
     public void read(AccessoriesCapability capability, LivingEntity entity, MapCarrier carrier, SerializationContext ctx) {
         this.loadedFromTag = false;
+        this.markStateChanged();
 
         this.cosmeticsShown = carrier.get(COSMETICS_SHOWN_KEY);
         this.linesShown = carrier.get(LINES_SHOWN_KEY);
@@ -0,0 +1,217 @@
+package io.wispforest.accessories.impl;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Contiguous storage for the current, previous and cosmetic stacks of every materialized container within a given holder.
+ * Each container is given a {@link Slice} of the arrays sized to its capacity, with the offset table of the holder being
+ * rebuilt whenever a slice is allocated, released or grown past its capacity.
+ */
+@ApiStatus.Internal
+public final class AccessoriesHolderStorage {
+
+    private static final ItemStack[] NO_STACKS = new ItemStack[0];
+
+    private ItemStack[] stacks = NO_STACKS;
+    private ItemStack[] previousStacks = NO_STACKS;
+    private ItemStack[] cosmeticStacks = NO_STACKS;
+    private ItemStack[] previousCosmeticStacks = NO_STACKS;
+
+    // Slices in the order they are laid out within the arrays
+    private final List<Slice> slices = new ArrayList<>();
+
+    /**
+     * @return A new slice at the end of the storage with the given capacity filled with empty stacks
+     */
+    public Slice allocate(int capacity) {
+        var slice = new Slice(this);
+
+        this.slices.add(slice);
+
+        rebuild(slice, Math.max(capacity, 0));
+
+        return slice;
+    }
+
+    /**
+     * @return The total capacity of every slice within the storage
+     */
+    public int capacity() {
+        return this.stacks.length;
+    }
+
+    private ItemStack[] stacks(boolean cosmetic) {
+        return cosmetic ? this.cosmeticStacks : this.stacks;
+    }
+
+    private ItemStack[] previousStacks(boolean cosmetic) {
+        return cosmetic ? this.previousCosmeticStacks : this.previousStacks;
+    }
+
+    /**
+     * Lays out every slice again with the given slice being resized to the given capacity, copying over the stacks
+     * of each slice to the new arrays
+     */
+    private void rebuild(@Nullable Slice resizedSlice, int resizedCapacity) {
+        var totalCapacity = 0;
+
+        for (var slice : this.slices) totalCapacity += (slice == resizedSlice) ? resizedCapacity : slice.capacity;
+
+        var newStacks = emptyStacks(totalCapacity);
+        var newPreviousStacks = emptyStacks(totalCapacity);
+        var newCosmeticStacks = emptyStacks(totalCapacity);
+        var newPreviousCosmeticStacks = emptyStacks(totalCapacity);
+
+        var offset = 0;
+
+        for (var slice : this.slices) {
+            var capacity = (slice == resizedSlice) ? resizedCapacity : slice.capacity;
+            var copied = Math.min(capacity, slice.capacity);
+
+            if (copied > 0) {
+                System.arraycopy(this.stacks, slice.offset, newStacks, offset, copied);
+                System.arraycopy(this.previousStacks, slice.offset, newPreviousStacks, offset, copied);
+                System.arraycopy(this.cosmeticStacks, slice.offset, newCosmeticStacks, offset, copied);
+                System.arraycopy(this.previousCosmeticStacks, slice.offset, newPreviousCosmeticStacks, offset, copied);
+            }
+
+            slice.offset = offset;
+            slice.capacity = capacity;
+
+            offset += capacity;
+        }
+
+        this.stacks = newStacks;
+        this.previousStacks = newPreviousStacks;
+        this.cosmeticStacks = newCosmeticStacks;
+        this.previousCosmeticStacks = newPreviousCosmeticStacks;
+    }
+
+    private static ItemStack[] emptyStacks(int size) {
+        if (size == 0) return NO_STACKS;
+
+        var stacks = new ItemStack[size];
+
+        Arrays.fill(stacks, ItemStack.EMPTY);
+
+        return stacks;
+    }
+
+    /**
+     * Region of the storage given to a single container with both the accessory and cosmetic stacks sharing the same offset
+     */
+    public static final class Slice {
+
+        private AccessoriesHolderStorage storage;
+
+        private int offset = 0;
+        private int capacity = 0;
+
+        private Slice(AccessoriesHolderStorage storage) {
+            this.storage = storage;
+        }
+
+        public int capacity() {
+            return this.capacity;
+        }
+
+        public ItemStack get(boolean cosmetic, int index) {
+            return this.storage.stacks(cosmetic)[this.offset + Objects.checkIndex(index, this.capacity)];
+        }
+
+        public ItemStack set(boolean cosmetic, int index, ItemStack stack) {
+            var stacks = this.storage.stacks(cosmetic);
+            var arrayIndex = this.offset + Objects.checkIndex(index, this.capacity);
+
+            var prevStack = stacks[arrayIndex];
+
+            stacks[arrayIndex] = stack;
+
+            return prevStack;
+        }
+
+        public ItemStack getPrevious(boolean cosmetic, int index) {
+            return this.storage.previousStacks(cosmetic)[this.offset + Objects.checkIndex(index, this.capacity)];
+        }
+
+        public void setPrevious(boolean cosmetic, int index, ItemStack stack) {
+            this.storage.previousStacks(cosmetic)[this.offset + Objects.checkIndex(index, this.capacity)] = stack;
+        }
+
+        /**
+         * Grows the slice to the given capacity, moving it and every following slice within the storage
+         */
+        public void reserve(int capacity) {
+            if (capacity <= this.capacity) return;
+
+            this.storage.rebuild(this, capacity);
+        }
+
+        /**
+         * Removes the slice from the holders storage, moving its stacks to storage of its own so that any container still
+         * referencing the slice keeps its stacks
+         */
+        public void release() {
+            var storage = this.storage;
+
+            var detached = new AccessoriesHolderStorage();
+
+            detached.stacks = Arrays.copyOfRange(storage.stacks, this.offset, this.offset + this.capacity);
+            detached.previousStacks = Arrays.copyOfRange(storage.previousStacks, this.offset, this.offset + this.capacity);
+            detached.cosmeticStacks = Arrays.copyOfRange(storage.cosmeticStacks, this.offset, this.offset + this.capacity);
+            detached.previousCosmeticStacks = Arrays.copyOfRange(storage.previousCosmeticStacks, this.offset, this.offset + this.capacity);
+
+            storage.slices.remove(this);
+            detached.slices.add(this);
+
+            this.storage = detached;
+            this.offset = 0;
+
+            storage.rebuild(null, 0);
+        }
+
+        /**
+         * @return A list view over either the accessory or cosmetic stacks of the slice sized to its capacity
+         */
+        public NonNullList<ItemStack> view(boolean cosmetic) {
+            return new SliceList(new SliceView(this, cosmetic));
+        }
+    }
+
+    private static final class SliceList extends NonNullList<ItemStack> {
+        private SliceList(List<ItemStack> view) {
+            super(view, ItemStack.EMPTY);
+        }
+    }
+
+    private static final class SliceView extends AbstractList<ItemStack> implements RandomAccess {
+
+        private final Slice slice;
+        private final boolean cosmetic;
+
+        private SliceView(Slice slice, boolean cosmetic) {
+            this.slice = slice;
+            this.cosmetic = cosmetic;
+        }
+
+        @Override
+        public ItemStack get(int index) {
+            return this.slice.get(this.cosmetic, index);
+        }
+
+        @Override
+        public ItemStack set(int index, ItemStack stack) {
+            return this.slice.set(this.cosmetic, index, stack);
+        }
+
+        @Override
+        public int size() {
+            return this.slice.capacity;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.wispforest.accessories.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simple set of named counters used to observe how often various internal operations occur
+ * within a given server tick. Counters are rolled over at the end of every server tick and can be
+ * viewed using the {@code /accessories metrics} command.
+ */
+@ApiStatus.Internal
+public class AccessoriesMetrics {
+
+    private static final Map<String, Counter> COUNTERS = new LinkedHashMap<>();
+
+    public static final Counter CAPABILITY_LOOKUPS = register("capability_lookups");
+    public static final Counter CAPABILITY_CONSTRUCTIONS = register("capability_constructions");
+
+    public static final Counter SYNC_PACKETS_QUEUED = register("sync_packets_queued");
+    public static final Counter SYNC_PACKETS_COALESCED = register("sync_packets_coalesced");
+    public static final Counter SYNC_PACKETS_DROPPED = register("sync_packets_dropped");
+    public static final Counter SYNC_PACKETS_SENT = register("sync_packets_sent");
+    public static final Counter SYNC_BUNDLES_SENT = register("sync_bundles_sent");
+    public static final Counter SYNC_PACKETS_SLIMMED = register("sync_packets_slimmed");
+    public static final Counter SYNC_BYTES_ENCODED = register("sync_bytes_encoded");
+    public static final Counter SYNC_BYTES_SENT = register("sync_bytes_sent");
+    public static final Counter SYNC_DATA_REQUESTS = register("sync_data_requests");
+    public static final Counter TRACKING_SYNCS_ELIDED = register("tracking_syncs_elided");
+    public static final Counter EMPTY_HOLDER_SYNCS = register("empty_holder_syncs");
+
+    public static final Counter HOLDER_SNAPSHOT_HITS = register("holder_snapshot_hits");
+    public static final Counter HOLDER_SNAPSHOT_MISSES = register("holder_snapshot_misses");
+
+    public static final Counter ATTRIBUTE_CACHE_HITS = register("attribute_cache_hits");
+    public static final Counter ATTRIBUTE_CACHE_MISSES = register("attribute_cache_misses");
+
+    public static final Counter EQUIPPED_INDEX_HITS = register("equipped_index_hits");
+    public static final Counter EQUIPPED_INDEX_REBUILDS = register("equipped_index_rebuilds");
+
+    public static final Counter EXTRA_EVENT_CACHE_HITS = register("extra_event_cache_hits");
+    public static final Counter EXTRA_EVENT_CACHE_MISSES = register("extra_event_cache_misses");
+
+    public static final Counter ACCESSORY_TICKS = register("accessory_ticks");
+    public static final Counter ACCESSORY_PASSES_THROTTLED = register("accessory_passes_throttled");
+    public static final Counter ACCESSORY_PASSES_PAUSED = register("accessory_passes_paused");
+
+    public static final Counter CONTAINERS_MATERIALIZED = register("containers_materialized");
+    public static final Counter CONTAINER_UPDATES = register("container_updates");
+    public static final Counter CONTAINER_UPDATE_CYCLES = register("container_update_cycles");
+
+    public static final Counter REVALIDATION_RESYNCS_SKIPPED = register("revalidation_resyncs_skipped");
+
+    public static Counter register(String name) {
+        var counter = new Counter(name);
+
+        if (COUNTERS.putIfAbsent(name, counter) != null) {
+            throw new IllegalStateException("Unable to register the given metric counter as it already exists! [Name: " + name + "]");
+        }
+
+        return counter;
+    }
+
+    public static Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(COUNTERS);
+    }
+
+    public static void onServerTickEnd() {
+        for (var counter : COUNTERS.values()) counter.rollOver();
+    }
+
+    public static final class Counter {
+        private final String name;
+
+        private final LongAdder current = new LongAdder();
+
+        private volatile long lastTick = 0;
+        private volatile long lastSecond = 0;
+        private volatile long total = 0;
+
+        private long secondAmount = 0;
+        private int secondTicks = 0;
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public String name() {
+            return this.name;
+        }
+
+        public void increment() {
+            this.current.increment();
+        }
+
+        public void add(long amount) {
+            this.current.add(amount);
+        }
+
+        /**
+         * @return The amount counted within the current server tick so far
+         */
+        public long current() {
+            return this.current.sum();
+        }
+
+        /**
+         * @return The amount counted within the last completed server tick
+         */
+        public long lastTick() {
+            return this.lastTick;
+        }
+
+        /**
+         * @return The amount counted within the last completed second of server ticks
+         */
+        public long lastSecond() {
+            return this.lastSecond;
+        }
+
+        /**
+         * @return The amount counted since the server started excluding the current tick
+         */
+        public long total() {
+            return this.total;
+        }
+
+        private void rollOver() {
+            var amount = this.current.sumThenReset();
+
+            this.lastTick = amount;
+            this.total += amount;
+
+            this.secondAmount += amount;
+
+            if (++this.secondTicks >= 20) {
+                this.lastSecond = this.secondAmount;
+
+                this.secondAmount = 0;
+                this.secondTicks = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.wispforest.accessories.impl;
+
+import io.wispforest.accessories.api.slot.SlotEntryReference;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.enchantment.Enchantment;
+import net.minecraft.world.item.enchantment.ItemEnchantments;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated enchantment data for all equipped accessories of a given entity used within the {@link net.minecraft.world.item.enchantment.EnchantmentHelper}
+ * hooks. Bound to the {@link EquippedIndex} it was built from meaning it is rebuilt whenever the equipped stacks or their components change.
+ */
+@ApiStatus.Internal
+public final class AccessoryEnchantmentCache {
+
+    private final EquippedIndex index;
+
+    private final Object2IntMap<Holder<Enchantment>> enchantmentLevels = new Object2IntOpenHashMap<>();
+    private final List<ItemStack> enchantedStacks = new ArrayList<>();
+    private final List<SlotEntryReference> enchantedEntries = new ArrayList<>();
+
+    private final Map<DataComponentType<?>, List<EnchantedEntry>> entriesByEffect = new HashMap<>();
+
+    private AccessoryEnchantmentCache(EquippedIndex index) {
+        this.index = index;
+
+        for (var entryReference : index.entries()) {
+            var enchantments = entryReference.stack().getOrDefault(DataComponents.ENCHANTMENTS, ItemEnchantments.EMPTY);
+
+            if (enchantments.isEmpty()) continue;
+
+            for (var entry : enchantments.entrySet()) {
+                var level = entry.getIntValue();
+
+                if (level > this.enchantmentLevels.getInt(entry.getKey())) this.enchantmentLevels.put(entry.getKey(), level);
+            }
+
+            this.enchantedStacks.add(entryReference.stack());
+            this.enchantedEntries.add(entryReference);
+        }
+    }
+
+    public static AccessoryEnchantmentCache of(EquippedIndex index) {
+        return new AccessoryEnchantmentCache(index);
+    }
+
+    public EquippedIndex index() {
+        return this.index;
+    }
+
+    /**
+     * @return The highest level of the given enchantment across all equipped accessories
+     */
+    public int getLevel(Holder<Enchantment> enchantment) {
+        return this.enchantmentLevels.getInt(enchantment);
+    }
+
+    /**
+     * @return All equipped stacks that have any enchantments
+     */
+    public List<ItemStack> enchantedStacks() {
+        return this.enchantedStacks;
+    }
+
+    /**
+     * @return All equipped entries with enchantments having effects of the given component type paired with such enchantments
+     */
+    public List<EnchantedEntry> getEntriesWithEffect(DataComponentType<?> componentType) {
+        return this.entriesByEffect.computeIfAbsent(componentType, type -> {
+            var entries = new ArrayList<EnchantedEntry>();
+
+            for (var entryReference : this.enchantedEntries) {
+                var enchantments = entryReference.stack().getOrDefault(DataComponents.ENCHANTMENTS, ItemEnchantments.EMPTY);
+
+                var holders = new ArrayList<Holder<Enchantment>>();
+
+                for (var holder : enchantments.keySet()) {
+                    if (holder.value().effects().has(type)) holders.add(holder);
+                }
+
+                if (!holders.isEmpty()) entries.add(new EnchantedEntry(entryReference, List.copyOf(holders)));
+            }
+
+            return List.copyOf(entries);
+        });
+    }
+
+    public record EnchantedEntry(SlotEntryReference entryReference, List<Holder<Enchantment>> enchantments) {}
+}
@@ -0,0 +1,78 @@
+package io.wispforest.accessories.impl;
+
+import com.mojang.logging.LogUtils;
+import io.wispforest.accessories.api.Accessory;
+import io.wispforest.accessories.api.slot.SlotReference;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * Helpers used to determine if a given equipped stack needs to be ticked at all, based on whether the
+ * {@link Accessory#tick} or {@link Item#inventoryTick} methods are overridden.
+ */
+@ApiStatus.Internal
+public final class AccessoryTicking {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ClassValue<Boolean> OVERRIDES_ACCESSORY_TICK = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick", ItemStack.class, SlotReference.class).getDeclaringClass() != Accessory.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
+    // Looked up by signature as the method name differs between mapping environments
+    @Nullable
+    private static final Method INVENTORY_TICK_METHOD = Arrays.stream(Item.class.getDeclaredMethods())
+            .filter(method -> !Modifier.isStatic(method.getModifiers()) && method.getReturnType() == void.class)
+            .filter(method -> Arrays.equals(method.getParameterTypes(), new Class<?>[]{ItemStack.class, Level.class, Entity.class, int.class, boolean.class}))
+            .findFirst()
+            .orElse(null);
+
+    private static final ClassValue<Boolean> OVERRIDES_INVENTORY_TICK = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (INVENTORY_TICK_METHOD == null) return true;
+
+            try {
+                return type.getMethod(INVENTORY_TICK_METHOD.getName(), INVENTORY_TICK_METHOD.getParameterTypes()).getDeclaringClass() != Item.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
+    static {
+        if (INVENTORY_TICK_METHOD == null) {
+            LOGGER.warn("[AccessoryTicking] Unable to locate Item#inventoryTick, all equipped stacks will have their inventory tick called.");
+        }
+    }
+
+    /**
+     * @return If the given accessory overrides {@link Accessory#tick} meaning it should be ticked by default
+     */
+    public static boolean overridesTick(Accessory accessory) {
+        return OVERRIDES_ACCESSORY_TICK.get(accessory.getClass());
+    }
+
+    /**
+     * @return If the item of the given stack overrides {@link Item#inventoryTick} and should still have it called
+     */
+    public static boolean requiresInventoryTick(ItemStack stack) {
+        return OVERRIDES_INVENTORY_TICK.get(stack.getItem().getClass());
+    }
+}
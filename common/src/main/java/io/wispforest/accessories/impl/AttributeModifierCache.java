@@ -0,0 +1,91 @@
+package io.wispforest.accessories.impl;
+
+import io.wispforest.accessories.api.attributes.AccessoryAttributeBuilder;
+import io.wispforest.accessories.pond.CachedAttributesExtension;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Small per-stack cache of the modifiers resolved by {@link io.wispforest.accessories.api.AccessoriesAPI#getAttributeModifiers}
+ * keyed by the entity, slot name, index and count. The cache is dropped when the components of the stack are mutated
+ * and every cache is invalidated when slot data is reloaded.
+ */
+@ApiStatus.Internal
+public final class AttributeModifierCache {
+
+    private static final int MAX_ENTRIES = 8;
+
+    private static volatile int generation = 0;
+
+    private final int cacheGeneration;
+    private final List<Entry> entries = new ArrayList<>(2);
+
+    private AttributeModifierCache(int cacheGeneration) {
+        this.cacheGeneration = cacheGeneration;
+    }
+
+    public static void invalidateAll() {
+        generation++;
+    }
+
+    public static void invalidate(ItemStack stack) {
+        ((CachedAttributesExtension) (Object) stack).accessories$setAttributeCache(null);
+    }
+
+    /**
+     * @return A copy of the cached builder or null if not present
+     */
+    @Nullable
+    public static AccessoryAttributeBuilder get(ItemStack stack, @Nullable LivingEntity entity, String slotName, int slot, boolean hideTooltipIfDisabled) {
+        var cache = ((CachedAttributesExtension) (Object) stack).accessories$getAttributeCache();
+
+        if (cache != null && cache.cacheGeneration == generation) {
+            for (var entry : cache.entries) {
+                if (entry.matches(entity, slotName, slot, hideTooltipIfDisabled, stack.getCount())) {
+                    AccessoriesMetrics.ATTRIBUTE_CACHE_HITS.increment();
+
+                    return entry.builder().copy();
+                }
+            }
+        }
+
+        AccessoriesMetrics.ATTRIBUTE_CACHE_MISSES.increment();
+
+        return null;
+    }
+
+    public static void put(ItemStack stack, @Nullable LivingEntity entity, String slotName, int slot, boolean hideTooltipIfDisabled, AccessoryAttributeBuilder builder) {
+        var extension = (CachedAttributesExtension) (Object) stack;
+
+        var cache = extension.accessories$getAttributeCache();
+
+        if (cache == null || cache.cacheGeneration != generation) {
+            cache = new AttributeModifierCache(generation);
+
+            extension.accessories$setAttributeCache(cache);
+        }
+
+        if (cache.entries.size() >= MAX_ENTRIES) cache.entries.remove(0);
+
+        var entityReference = (entity != null) ? new WeakReference<>(entity) : null;
+
+        cache.entries.add(new Entry(entityReference, slotName, slot, hideTooltipIfDisabled, stack.getCount(), builder.copy()));
+    }
+
+    // Entity is weakly held as the given stack may outlive the entity it was equipped to
+    private record Entry(@Nullable WeakReference<LivingEntity> entity, String slotName, int slot, boolean hideTooltipIfDisabled, int count, AccessoryAttributeBuilder builder) {
+        private boolean matches(@Nullable LivingEntity entity, String slotName, int slot, boolean hideTooltipIfDisabled, int count) {
+            if (this.slot != slot || this.hideTooltipIfDisabled != hideTooltipIfDisabled || this.count != count) return false;
+
+            var cachedEntity = (this.entity != null) ? this.entity.get() : null;
+
+            return cachedEntity == entity && this.slotName.equals(slotName);
+        }
+    }
+}
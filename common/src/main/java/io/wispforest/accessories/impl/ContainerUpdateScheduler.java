@@ -0,0 +1,174 @@
+package io.wispforest.accessories.impl;
+
+import com.mojang.logging.LogUtils;
+import io.wispforest.accessories.api.AccessoriesContainer;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.*;
+
+/**
+ * Worklist used to update the containers of a given holder. Containers marked as changed while another container is being
+ * updated, such as by slot modifiers being removed from unequipped stacks, are recorded as dependents of that container.
+ * <p>
+ * Such dependencies are used to update a container only after every pending container it depends on has been updated,
+ * preventing it from being updated once before and once again after its dependency changes it. Each recorded dependency
+ * may only cause its dependent to be updated once within a run, with a dependency firing again indicating an update cycle.
+ */
+@ApiStatus.Internal
+public final class ContainerUpdateScheduler {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private final ReferenceLinkedOpenHashSet<AccessoriesContainer> worklist = new ReferenceLinkedOpenHashSet<>();
+
+    // Containers marked as changed by the last update of a given container, kept between runs to order future updates
+    private final Map<AccessoriesContainer, Set<AccessoriesContainer>> dependents = new IdentityHashMap<>();
+
+    // Dependencies which have caused their dependent to be updated within the current run
+    private final Map<AccessoriesContainer, Set<AccessoriesContainer>> firedDependencies = new IdentityHashMap<>();
+
+    @Nullable
+    private AccessoriesContainer updatingContainer = null;
+
+    private boolean running = false;
+
+    /**
+     * Updates every changed container within the given collection along with any container marked as changed in the process
+     */
+    public void run(Collection<AccessoriesContainer> containers) {
+        if (this.running) return;
+
+        this.running = true;
+
+        try {
+            var currentContainers = new ReferenceOpenHashSet<>(containers);
+
+            // Containers may be replaced when the slot types are reloaded
+            this.dependents.keySet().retainAll(currentContainers);
+            this.dependents.values().forEach(containerDependents -> containerDependents.retainAll(currentContainers));
+
+            for (var container : containers) {
+                if (container.hasChanged()) this.worklist.add(container);
+            }
+
+            while (!this.worklist.isEmpty()) {
+                var container = nextContainer();
+
+                this.worklist.remove(container);
+
+                if (!container.hasChanged()) continue;
+
+                this.updatingContainer = container;
+
+                // Replaced by the containers marked as changed during this update
+                this.dependents.remove(container);
+
+                container.update();
+
+                this.updatingContainer = null;
+
+                AccessoriesMetrics.CONTAINER_UPDATES.increment();
+            }
+        } finally {
+            this.worklist.clear();
+            this.firedDependencies.clear();
+            this.updatingContainer = null;
+            this.running = false;
+        }
+    }
+
+    /**
+     * Called when the given container is marked as changed, queuing it if containers are currently being updated
+     */
+    public void onMarkedChanged(AccessoriesContainer container) {
+        if (!this.running) return;
+
+        var dependency = this.updatingContainer;
+
+        if (dependency != null) {
+            if (!this.firedDependencies.computeIfAbsent(dependency, c -> new ReferenceLinkedOpenHashSet<>()).add(container)) {
+                AccessoriesMetrics.CONTAINER_UPDATE_CYCLES.increment();
+
+                LOGGER.warn("Unable to finish updating the given container as it was found to be within a update cycle, such will be attempted again next update! [Slot: {}, Cycle: {}]", container.getSlotName(), describeCycle(container, dependency));
+
+                return;
+            }
+
+            this.dependents.computeIfAbsent(dependency, c -> new ReferenceLinkedOpenHashSet<>()).add(container);
+        }
+
+        this.worklist.add(container);
+    }
+
+    /**
+     * @return The first queued container without any queued container it depends on, or the first queued container if
+     * every queued container is waiting on another meaning the recorded dependencies form a cycle
+     */
+    private AccessoriesContainer nextContainer() {
+        for (var container : this.worklist) {
+            if (!hasQueuedDependency(container)) return container;
+        }
+
+        return this.worklist.first();
+    }
+
+    private boolean hasQueuedDependency(AccessoriesContainer container) {
+        var visited = Collections.newSetFromMap(new IdentityHashMap<AccessoriesContainer, Boolean>());
+        var queue = new ArrayDeque<AccessoriesContainer>();
+
+        queue.add(container);
+
+        while (!queue.isEmpty()) {
+            var current = queue.poll();
+
+            for (var entry : this.dependents.entrySet()) {
+                var dependency = entry.getKey();
+
+                if (!entry.getValue().contains(current) || !visited.add(dependency)) continue;
+
+                if (dependency != container && this.worklist.contains(dependency)) return true;
+
+                queue.add(dependency);
+            }
+        }
+
+        return false;
+    }
+
+    // Cycle formed by the dependencies fired within this run leading from the given container back to the given dependency
+    private String describeCycle(AccessoriesContainer container, AccessoriesContainer dependency) {
+        var joiner = new StringJoiner(" -> ", "[", "]");
+
+        joiner.add(dependency.getSlotName());
+
+        var path = new ArrayList<AccessoriesContainer>();
+
+        if (container == dependency || findPath(container, dependency, path, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            joiner.add(container.getSlotName());
+
+            for (var pathContainer : path) joiner.add(pathContainer.getSlotName());
+        } else {
+            joiner.add(container.getSlotName());
+        }
+
+        return joiner.toString();
+    }
+
+    private boolean findPath(AccessoriesContainer current, AccessoriesContainer target, List<AccessoriesContainer> path, Set<AccessoriesContainer> visited) {
+        if (!visited.add(current)) return false;
+
+        for (var dependent : this.firedDependencies.getOrDefault(current, Set.of())) {
+            path.add(dependent);
+
+            if (dependent == target || findPath(dependent, target, path, visited)) return true;
+
+            path.remove(path.size() - 1);
+        }
+
+        return false;
+    }
+}
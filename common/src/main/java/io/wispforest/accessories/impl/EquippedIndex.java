@@ -0,0 +1,132 @@
+package io.wispforest.accessories.impl;
+
+import io.wispforest.accessories.api.AccessoriesAPI;
+import io.wispforest.accessories.api.AccessoriesContainer;
+import io.wispforest.accessories.api.Accessory;
+import io.wispforest.accessories.api.events.extra.ExtraEventType;
+import io.wispforest.accessories.api.slot.SlotEntryReference;
+import io.wispforest.accessories.api.slot.SlotReference;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable flattened view of all equipped accessories for a given entity including any nested within an
+ * {@link io.wispforest.accessories.api.AccessoryNest}. Rebuilt by {@link AccessoriesCapabilityImpl} only after
+ * a container reports a change.
+ *
+ * @param entries         All equipped entries including nested stacks
+ * @param topLevelEntries Only the stacks directly held within the containers
+ * @param accessories     The resolved {@link Accessory} for each entry within {@link #entries()}
+ * @param extraEventMask  Bitmask of all {@link ExtraEventType}s implemented by the resolved accessories
+ * @param tickables       The top level entries that need to be ticked
+ */
+@ApiStatus.Internal
+public record EquippedIndex(AccessoriesHolderImpl holder, int stateVersion, int equipmentVersion,
+                            List<SlotEntryReference> entries, List<SlotEntryReference> topLevelEntries, Accessory[] accessories, int extraEventMask, List<TickableEntry> tickables) {
+
+    public static EquippedIndex create(AccessoriesHolderImpl holder, int stateVersion, int equipmentVersion, Collection<AccessoriesContainer> containers) {
+        var builder = new Builder();
+
+        for (var container : containers) {
+            if (!((AccessoriesContainerImpl) container).isMaterialized()) continue;
+
+            var stacks = container.getAccessories();
+
+            for (int slot = 0; slot < stacks.getContainerSize(); slot++) {
+                var stack = stacks.getItem(slot);
+
+                if (stack.isEmpty()) continue;
+
+                builder.add(container, slot, container.createReference(slot), stack);
+            }
+        }
+
+        return builder.build(holder, stateVersion, equipmentVersion);
+    }
+
+    public int size() {
+        return this.accessories.length;
+    }
+
+    public SlotEntryReference entry(int index) {
+        return this.entries.get(index);
+    }
+
+    public Accessory accessory(int index) {
+        return this.accessories[index];
+    }
+
+    /**
+     * @return If the given event type needs to be checked for the equipped accessories either due to an accessory
+     * implementing it or a listener being registered to it
+     */
+    public boolean requiresEvent(ExtraEventType type) {
+        return type.isIn(this.extraEventMask) || (type.hasListeners() && !this.entries.isEmpty());
+    }
+
+    /**
+     * Builder used to flatten the stacks held within the containers of a given holder, exposed separately to allow for
+     * the index to be built from stacks outside of any container
+     */
+    public static final class Builder {
+
+        private final List<SlotEntryReference> entries = new ArrayList<>();
+        private final List<SlotEntryReference> topLevelEntries = new ArrayList<>();
+        private final List<TickableEntry> tickables = new ArrayList<>();
+
+        /**
+         * Adds the given non-empty stack held within the given slot along with any stack nested within it
+         */
+        public Builder add(AccessoriesContainer container, int slot, SlotReference reference, ItemStack stack) {
+            var entryReference = new SlotEntryReference(reference, stack);
+
+            this.topLevelEntries.add(entryReference);
+
+            var accessory = AccessoriesAPI.getOrDefaultAccessory(stack);
+            var tickInterval = accessory.tickInterval(stack);
+            var inventoryTick = AccessoryTicking.requiresInventoryTick(stack);
+
+            if (tickInterval > 0 || inventoryTick) {
+                this.tickables.add(new TickableEntry(container, slot, entryReference, accessory, tickInterval, inventoryTick));
+            }
+
+            AccessoryNestUtils.recursiveStackConsumption(stack, reference, (innerStack, ref) -> this.entries.add(new SlotEntryReference(ref, innerStack)));
+
+            return this;
+        }
+
+        public EquippedIndex build(AccessoriesHolderImpl holder, int stateVersion, int equipmentVersion) {
+            var accessories = new Accessory[this.entries.size()];
+            var extraEventMask = 0;
+
+            for (int i = 0; i < accessories.length; i++) {
+                var accessory = AccessoriesAPI.getOrDefaultAccessory(this.entries.get(i).stack());
+
+                accessories[i] = accessory;
+                extraEventMask |= AccessoriesAPI.getExtraEventMask(accessory);
+            }
+
+            return new EquippedIndex(holder, stateVersion, equipmentVersion, Collections.unmodifiableList(this.entries), Collections.unmodifiableList(this.topLevelEntries), accessories, extraEventMask, Collections.unmodifiableList(this.tickables));
+        }
+    }
+
+    /**
+     * @param tickInterval  The interval between {@link Accessory#tick} calls or 0 or below if never ticked
+     * @param inventoryTick Whether {@link ItemStack#inventoryTick} should be called every tick
+     */
+    public record TickableEntry(AccessoriesContainer container, int slot, SlotEntryReference entryReference, Accessory accessory, int tickInterval, boolean inventoryTick) {
+        /**
+         * @return If the stack is still held within the given slot as it may have been changed by a previous tick
+         */
+        public boolean isCurrent() {
+            var stack = this.entryReference.stack();
+
+            return !stack.isEmpty() && this.container.getAccessories().getItem(this.slot) == stack;
+        }
+    }
+}
@@ -3,54 +3,127 @@ package io.wispforest.accessories.impl;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.logging.LogUtils;
 import io.wispforest.accessories.api.AccessoriesAPI;
-import it.unimi.dsi.fastutil.ints.Int2BooleanArrayMap;
-import it.unimi.dsi.fastutil.ints.Int2BooleanMap;
+import io.wispforest.accessories.mixin.SimpleContainerAccessor;
+import io.wispforest.accessories.pond.TrackedStackExtension;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.core.HolderLookup;
-import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.world.ContainerListener;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.util.BitSet;
 import java.util.Iterator;
 
 /**
  * An implementation of SimpleContainer with easy utilities for iterating over the stacks
- * and holding on to previous stack info
+ * and holding on to previous stack info, with the stacks being held within a slice of a {@link AccessoriesHolderStorage}
  */
 public class ExpandedSimpleContainer extends SimpleContainer implements Iterable<Pair<Integer, ItemStack>> {
 
     private static final Logger LOGGER = LogUtils.getLogger();
 
     private final String name;
-    private final NonNullList<ItemStack> previousItems;
-    private final Int2BooleanMap setFlags = new Int2BooleanArrayMap();
+
+    // Slots past the current size are kept empty allowing the container to be resized in place up to the capacity of the slice
+    private final AccessoriesHolderStorage.Slice slice;
+    private final boolean cosmetic;
+    private int size;
+
+    private final BitSet setFlags;
+    private final BitSet changedSlots;
 
     private boolean newlyConstructed;
 
+    @Nullable
+    private Runnable contentsChangedCallback = null;
+
     public ExpandedSimpleContainer(ContainerListener listener, int size, String name) {
         this(listener, size, name, true);
     }
 
     public ExpandedSimpleContainer(ContainerListener listener, int size, String name, boolean toggleNewlyConstructed) {
-        super(size);
+        this(listener, size, size, name, toggleNewlyConstructed);
+    }
+
+    public ExpandedSimpleContainer(ContainerListener listener, int size, int capacity, String name, boolean toggleNewlyConstructed) {
+        this(listener, new AccessoriesHolderStorage().allocate(Math.max(size, capacity)), false, size, name, toggleNewlyConstructed);
+    }
+
+    /**
+     * Creates a container viewing either the accessory or cosmetic stacks of the given slice
+     */
+    public ExpandedSimpleContainer(ContainerListener listener, AccessoriesHolderStorage.Slice slice, boolean cosmetic, int size, String name, boolean toggleNewlyConstructed) {
+        super(0);
+
+        ((SimpleContainerAccessor) this).accessories$setItems(slice.view(cosmetic));
 
         this.addListener(listener);
 
         if(toggleNewlyConstructed) this.newlyConstructed = true;
 
         this.name = name;
-        this.previousItems = NonNullList.withSize(size, ItemStack.EMPTY);
+        this.slice = slice;
+        this.cosmetic = cosmetic;
+        this.size = Math.min(size, slice.capacity());
+        this.setFlags = new BitSet(slice.capacity());
+        this.changedSlots = new BitSet(slice.capacity());
     }
 
     public String name() {
         return this.name;
     }
 
+    public int capacity() {
+        return this.slice.capacity();
+    }
+
+    public boolean isCosmetic() {
+        return this.cosmetic;
+    }
+
+    /**
+     * Resizes the container in place with only the slots between the old and new size being touched. Any stacks
+     * within slots removed by shrinking the container are dropped meaning they should be collected beforehand.
+     *
+     * @return If the container was resized or false if the given size exceeds the capacity of the container
+     */
+    public boolean resize(int size) {
+        if (size < 0 || size > this.capacity()) return false;
+
+        for (int i = size; i < this.size; i++) {
+            releaseStack(super.removeItemNoUpdate(i));
+
+            this.slice.setPrevious(this.cosmetic, i, ItemStack.EMPTY);
+        }
+
+        if (size < this.size) {
+            this.setFlags.clear(size, this.size);
+            this.changedSlots.clear(size, this.size);
+        }
+
+        this.size = size;
+
+        return true;
+    }
+
+    /**
+     * Sets the callback run whenever a stack within the container is replaced, removed or mutated in place
+     */
+    public ExpandedSimpleContainer onContentsChanged(Runnable callback) {
+        this.contentsChangedCallback = callback;
+
+        return this;
+    }
+
+    private void contentsChanged() {
+        if (this.contentsChangedCallback != null) this.contentsChangedCallback.run();
+    }
+
     //--
 
     public boolean wasNewlyConstructed() {
@@ -62,23 +135,50 @@ public class ExpandedSimpleContainer extends SimpleContainer implements Iterable
     }
 
     public boolean isSlotFlagged(int slot){
-        var bl = setFlags.getOrDefault(slot, false);
+        var bl = setFlags.get(slot);
 
-        if(bl) setFlags.put(slot, false);
+        if(bl) setFlags.clear(slot);
 
         return bl;
     }
 
+    /**
+     * Flags the given slot as changed if the passed stack is the one currently held within it. Called
+     * by stacks held within the container when mutated in place.
+     */
+    public void markSlotChanged(int slot, ItemStack stack) {
+        if (slot < 0 || slot >= this.getContainerSize() || super.getItem(slot) != stack) return;
+
+        this.changedSlots.set(slot);
+
+        contentsChanged();
+    }
+
+    /**
+     * @return The next slot index flagged as changed starting from the given index or -1 if none are flagged
+     */
+    public int nextChangedSlot(int fromIndex) {
+        return this.changedSlots.nextSetBit(fromIndex);
+    }
+
+    public void clearChangedSlot(int slot) {
+        this.changedSlots.clear(slot);
+    }
+
+    public boolean hasChangedSlots() {
+        return !this.changedSlots.isEmpty();
+    }
+
     public void setPreviousItem(int slot, ItemStack stack) {
-        this.previousItems.set(slot, stack);
+        this.slice.setPrevious(this.cosmetic, slot, stack);
         if (!stack.isEmpty() && stack.getCount() > this.getMaxStackSize()) {
             stack.setCount(this.getMaxStackSize());
         }
     }
 
     public ItemStack getPreviousItem(int slot) {
-        return slot >= 0 && slot < this.previousItems.size()
-                ? this.previousItems.get(slot)
+        return slot >= 0 && slot < this.size
+                ? this.slice.getPrevious(this.cosmetic, slot)
                 : ItemStack.EMPTY;
     }
 
@@ -91,6 +191,51 @@ public class ExpandedSimpleContainer extends SimpleContainer implements Iterable
         return Math.min(super.getMaxStackSize(itemStack), accessory.maxStackSize(itemStack));
     }
 
+    @Override
+    public int getContainerSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean canAddItem(ItemStack stack) {
+        for (int i = 0; i < this.size; i++) {
+            var currentStack = super.getItem(i);
+
+            if (currentStack.isEmpty() || (ItemStack.isSameItemSameComponents(currentStack, stack) && currentStack.getCount() < currentStack.getMaxStackSize())) return true;
+        }
+
+        return false;
+    }
+
+    // Reimplemented as the base implementation iterates over the full capacity of the container
+    @Override
+    public ItemStack addItem(ItemStack stack) {
+        if (stack.isEmpty()) return ItemStack.EMPTY;
+
+        var remainingStack = stack.copy();
+
+        for (int i = 0; i < this.size && !remainingStack.isEmpty(); i++) {
+            var currentStack = super.getItem(i);
+
+            if (currentStack.isEmpty() || !ItemStack.isSameItemSameComponents(currentStack, remainingStack)) continue;
+
+            var amount = Math.min(remainingStack.getCount(), Math.min(this.getMaxStackSize(currentStack), currentStack.getMaxStackSize()) - currentStack.getCount());
+
+            if (amount <= 0) continue;
+
+            currentStack.grow(amount);
+            remainingStack.shrink(amount);
+
+            this.setChanged();
+        }
+
+        for (int i = 0; i < this.size && !remainingStack.isEmpty(); i++) {
+            if (super.getItem(i).isEmpty()) this.setItem(i, remainingStack.copyAndClear());
+        }
+
+        return remainingStack.isEmpty() ? ItemStack.EMPTY : remainingStack;
+    }
+
     @Override
     public ItemStack getItem(int slot) {
         if(!validIndex(slot)) return ItemStack.EMPTY;
@@ -105,7 +250,10 @@ public class ExpandedSimpleContainer extends SimpleContainer implements Iterable
         var stack = super.removeItem(slot, amount);
 
         if (!stack.isEmpty()) {
-            setFlags.put(slot, true);
+            setFlags.set(slot);
+            changedSlots.set(slot);
+
+            contentsChanged();
         }
 
         return stack;
@@ -117,25 +265,57 @@ public class ExpandedSimpleContainer extends SimpleContainer implements Iterable
 
         // TODO: Concerning the flagging system, should this work for it?
 
-        return super.removeItemNoUpdate(slot);
+        var stack = super.removeItemNoUpdate(slot);
+
+        releaseStack(stack);
+
+        changedSlots.set(slot);
+
+        contentsChanged();
+
+        return stack;
     }
 
     @Override
     public void setItem(int slot, ItemStack stack) {
         if(!validIndex(slot)) return;
 
+        releaseStack(super.getItem(slot));
+
         super.setItem(slot, stack);
 
-        setFlags.put(slot, true);
+        if(stack != ItemStack.EMPTY) ((TrackedStackExtension) (Object) stack).accessories$setOwningContainer(this, slot);
+
+        setFlags.set(slot);
+        changedSlots.set(slot);
+
+        contentsChanged();
+    }
+
+    @Override
+    public void clearContent() {
+        for (int i = 0; i < this.getContainerSize(); i++) releaseStack(super.getItem(i));
+
+        super.clearContent();
+
+        changedSlots.set(0, this.getContainerSize());
+
+        contentsChanged();
+    }
+
+    private void releaseStack(ItemStack stack) {
+        var extension = (TrackedStackExtension) (Object) stack;
+
+        if(extension.accessories$getOwningContainer() == this) extension.accessories$setOwningContainer(null, -1);
     }
 
     // Simple validation method to make sure that the given access is valid before attempting an operation
     public boolean validIndex(int slot){
         var isValid = slot >= 0 && slot < this.getContainerSize();
 
-        var nameInfo = (this.name != null ? "Container: " + this.name + ", " : "");
-
         if(!isValid && FabricLoader.getInstance().isDevelopmentEnvironment()){
+            var nameInfo = (this.name != null ? "Container: " + this.name + ", " : "");
+
             try {
                 throw new IllegalStateException("Access to a given Inventory was found to be out of the range valid for the container! [Name: " + nameInfo + " Index: " + slot + "]");
             } catch (Exception e) {
@@ -209,7 +389,9 @@ public class ExpandedSimpleContainer extends SimpleContainer implements Iterable
     }
 
     public void setFromPrev(ExpandedSimpleContainer prevContainer) {
-        prevContainer.forEach(pair -> this.setPreviousItem(pair.getFirst(), pair.getSecond()));
+        var size = Math.min(prevContainer.getContainerSize(), this.getContainerSize());
+
+        for (int i = 0; i < size; i++) this.setPreviousItem(i, prevContainer.getItem(i));
     }
 
     public void copyPrev(ExpandedSimpleContainer prevContainer) {
@@ -0,0 +1,69 @@
+package io.wispforest.accessories.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.world.entity.LivingEntity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tick scoped memoization of {@link io.wispforest.accessories.api.events.extra.ExtraEventHandler} query results keyed by
+ * the id of the queried entity and the id of the other entity involved if any. Results are dropped once the game time
+ * advances or when the {@link EquippedIndex} of the queried entity changes.
+ */
+@ApiStatus.Internal
+public final class ExtraEventQueryCache<T> {
+
+    public static final int NO_OTHER_ENTITY = -1;
+
+    private final Side<T> server = new Side<>();
+    private final Side<T> client = new Side<>();
+
+    public static long key(int entityId, int otherId) {
+        return ((long) entityId << 32) | (otherId & 0xFFFFFFFFL);
+    }
+
+    @Nullable
+    public T get(LivingEntity entity, int otherId, EquippedIndex index) {
+        var side = getSide(entity);
+
+        var result = side.results.get(key(entity.getId(), otherId));
+
+        if (result != null && result.index() == index) {
+            AccessoriesMetrics.EXTRA_EVENT_CACHE_HITS.increment();
+
+            return result.value();
+        }
+
+        AccessoriesMetrics.EXTRA_EVENT_CACHE_MISSES.increment();
+
+        return null;
+    }
+
+    public T put(LivingEntity entity, int otherId, EquippedIndex index, T value) {
+        getSide(entity).results.put(key(entity.getId(), otherId), new CachedResult<>(index, value));
+
+        return value;
+    }
+
+    private Side<T> getSide(LivingEntity entity) {
+        var level = entity.level();
+
+        var side = level.isClientSide() ? this.client : this.server;
+
+        var gameTime = level.getGameTime();
+
+        if (side.gameTime != gameTime) {
+            side.results.clear();
+            side.gameTime = gameTime;
+        }
+
+        return side;
+    }
+
+    private static final class Side<T> {
+        private final Long2ObjectOpenHashMap<CachedResult<T>> results = new Long2ObjectOpenHashMap<>();
+        private long gameTime = Long.MIN_VALUE;
+    }
+
+    private record CachedResult<T>(EquippedIndex index, T value) {}
+}
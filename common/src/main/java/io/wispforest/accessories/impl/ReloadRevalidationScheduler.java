@@ -0,0 +1,167 @@
+package io.wispforest.accessories.impl;
+
+import com.mojang.logging.LogUtils;
+import io.wispforest.accessories.Accessories;
+import io.wispforest.accessories.AccessoriesInternals;
+import io.wispforest.accessories.api.AccessoriesContainer;
+import io.wispforest.accessories.client.AccessoriesMenu;
+import io.wispforest.accessories.networking.AccessoriesSyncing;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.PlayerList;
+import org.jetbrains.annotations.ApiStatus;
+import org.slf4j.Logger;
+
+import java.util.*;
+
+/**
+ * Spreads the revalidation of online players after a data reload over multiple ticks using a per-tick time budget
+ * defined within {@link io.wispforest.accessories.compat.AccessoriesConfig.ServerData#reloadRevalidationBudgetMillis}.
+ * <p>
+ * Players with the {@link AccessoriesMenu} open are revalidated first with a full resync only being sent when the
+ * slot layout of the given player has changed due to the reload.
+ */
+@ApiStatus.Internal
+public class ReloadRevalidationScheduler {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final Deque<PendingPlayer> PENDING = new ArrayDeque<>();
+    private static final Set<UUID> PENDING_IDS = new HashSet<>();
+
+    private static int totalPlayers = 0;
+    private static int revalidatedPlayers = 0;
+    private static int fullSyncsSent = 0;
+    private static int ticksTaken = 0;
+
+    /**
+     * Schedules all players within the given list to be revalidated with those currently within the accessories menu being handled first
+     */
+    public static void schedule(PlayerList playerList) {
+        if (PENDING.isEmpty()) {
+            totalPlayers = 0;
+            revalidatedPlayers = 0;
+            fullSyncsSent = 0;
+            ticksTaken = 0;
+        }
+
+        for (var player : playerList.getPlayers()) {
+            if (PENDING_IDS.contains(player.getUUID())) continue;
+
+            var pendingPlayer = new PendingPlayer(player.getUUID(), SlotLayout.of(player));
+
+            if (player.containerMenu instanceof AccessoriesMenu) {
+                PENDING.addFirst(pendingPlayer);
+            } else {
+                PENDING.addLast(pendingPlayer);
+            }
+
+            PENDING_IDS.add(player.getUUID());
+
+            totalPlayers++;
+        }
+    }
+
+    public static void tick(MinecraftServer server) {
+        if (PENDING.isEmpty()) return;
+
+        ticksTaken++;
+
+        var budget = Math.max(Accessories.getConfig().serverData.reloadRevalidationBudgetMillis, 0) * 1_000_000L;
+        var startTime = System.nanoTime();
+
+        // At least one player is always handled each tick to guarantee progress
+        do {
+            var pendingPlayer = PENDING.pollFirst();
+
+            PENDING_IDS.remove(pendingPlayer.uuid());
+
+            var player = server.getPlayerList().getPlayer(pendingPlayer.uuid());
+
+            if (player != null) revalidate(player, pendingPlayer.layout());
+
+            revalidatedPlayers++;
+        } while (!PENDING.isEmpty() && System.nanoTime() - startTime < budget);
+
+        if (PENDING.isEmpty()) {
+            LOGGER.info("Finished revalidating {} players after a data reload over {} ticks with {} requiring a full resync", totalPlayers, ticksTaken, fullSyncsSent);
+        }
+    }
+
+    private static void revalidate(ServerPlayer player, SlotLayout previousLayout) {
+        AccessoriesEventHandler.revalidatePlayer(player);
+
+        var networkHandler = AccessoriesInternals.getNetworkHandler();
+
+        if (!previousLayout.equals(SlotLayout.of(player))) {
+            AccessoriesSyncing.queueFullSync(player);
+
+            fullSyncsSent++;
+        } else {
+            AccessoriesMetrics.REVALIDATION_RESYNCS_SKIPPED.increment();
+        }
+
+        if (player.containerMenu instanceof AccessoriesMenu accessoriesMenu) {
+            // Menu requires the synced data to be present on the client before being opened
+            networkHandler.flushQueue(player);
+
+            Accessories.openAccessoriesMenu(player, accessoriesMenu.targetEntity());
+        }
+    }
+
+    /**
+     * Drops any pending revalidation and progress, required as the state would otherwise be carried over to the next
+     * world opened on the integrated server where the same player may be present
+     */
+    public static void clear() {
+        PENDING.clear();
+        PENDING_IDS.clear();
+
+        totalPlayers = 0;
+        revalidatedPlayers = 0;
+        fullSyncsSent = 0;
+        ticksTaken = 0;
+    }
+
+    public static boolean isRunning() {
+        return !PENDING.isEmpty();
+    }
+
+    public static int totalPlayers() {
+        return totalPlayers;
+    }
+
+    public static int revalidatedPlayers() {
+        return revalidatedPlayers;
+    }
+
+    public static int fullSyncsSent() {
+        return fullSyncsSent;
+    }
+
+    public static int ticksTaken() {
+        return ticksTaken;
+    }
+
+    private record PendingPlayer(UUID uuid, SlotLayout layout) {}
+
+    /**
+     * Containers and their sizes within a given players holder used to check if a resync is required. Containers
+     * are compared by identity as such are replaced when the holder is reinitialized.
+     */
+    private record SlotLayout(Map<String, ContainerLayout> containers) {
+        private static SlotLayout of(ServerPlayer player) {
+            var holder = (AccessoriesHolderImpl) AccessoriesInternals.getHolder(player);
+
+            var containers = new HashMap<String, ContainerLayout>();
+
+            holder.getSlotContainers().forEach((slotName, container) -> {
+                containers.put(slotName, new ContainerLayout(container, ((AccessoriesContainerImpl) container).getCurrentSize()));
+            });
+
+            return new SlotLayout(containers);
+        }
+    }
+
+    private record ContainerLayout(AccessoriesContainer container, int size) {}
+}
@@ -4,23 +4,53 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.wispforest.accessories.Accessories;
+import io.wispforest.accessories.api.AccessoriesAPI;
 import io.wispforest.accessories.api.DropRule;
+import io.wispforest.accessories.api.slot.SlotBasedPredicate;
 import io.wispforest.accessories.api.slot.SlotType;
+import io.wispforest.accessories.api.slot.UniqueSlotHandling;
 import io.wispforest.accessories.endec.MinecraftEndecs;
 import io.wispforest.endec.Endec;
 import io.wispforest.endec.StructEndec;
 import io.wispforest.endec.impl.StructEndecBuilder;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+
+/**
+ * @param isUnique   If the given slot is a unique slot, resolved from the name on construction
+ * @param slotTag    The item tag used by the tag predicate, resolved from the name on construction
+ * @param predicates The {@link SlotBasedPredicate}s registered for the {@link #validators()} at the time of construction
+ */
+public record SlotTypeImpl(String name, Optional<String> alternativeTranslation, ResourceLocation icon, int order, int amount, Set<ResourceLocation> validators, DropRule dropRule,
+                           boolean isUnique, TagKey<Item> slotTag, List<SlotBasedPredicate> predicates) implements SlotType  {
+    public SlotTypeImpl {
+        predicates = List.copyOf(predicates);
+    }
+
+    public SlotTypeImpl(String name, Optional<String> alternativeTranslation, ResourceLocation icon, int order, int amount, Set<ResourceLocation> validators, DropRule dropRule) {
+        this(name, alternativeTranslation, icon, order, amount, validators, dropRule,
+                UniqueSlotHandling.isUniqueSlot(name), AccessoriesAPI.createSlotTag(name), resolvePredicates(validators));
+    }
 
-public record SlotTypeImpl(String name, Optional<String> alternativeTranslation, ResourceLocation icon, int order, int amount, Set<ResourceLocation> validators, DropRule dropRule) implements SlotType  {
     public SlotTypeImpl(String name, ResourceLocation icon, int order, int amount, Set<ResourceLocation> validators, DropRule dropRule) {
         this(name, Optional.empty(), icon, order, amount, validators, dropRule);
     }
 
+    private static List<SlotBasedPredicate> resolvePredicates(Set<ResourceLocation> validators) {
+        var predicates = new ArrayList<SlotBasedPredicate>();
+
+        for (var validator : validators) {
+            var predicate = AccessoriesAPI.getPredicate(validator);
+
+            if (predicate != null) predicates.add(predicate);
+        }
+
+        return predicates;
+    }
+
     @Override
     public String translation() {
         return alternativeTranslation().orElseGet(SlotType.super::translation);
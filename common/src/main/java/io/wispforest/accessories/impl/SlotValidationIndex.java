@@ -0,0 +1,141 @@
+package io.wispforest.accessories.impl;
+
+import io.wispforest.accessories.api.AccessoriesAPI;
+import io.wispforest.accessories.api.components.AccessoriesDataComponents;
+import io.wispforest.accessories.api.components.AccessorySlotValidationComponent;
+import io.wispforest.accessories.api.data.AccessoriesBaseData;
+import io.wispforest.accessories.api.slot.SlotType;
+import io.wispforest.accessories.data.SlotTypeLoader;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the {@link SlotType}s a given {@link Item} passes the static validators for. Slot types only using validators
+ * that depend on the stacks {@link Item} and {@link AccessoriesDataComponents#SLOT_VALIDATION} component are resolved once
+ * per item and fingerprint with all other slot types being checked every call like before.
+ */
+@ApiStatus.Internal
+public final class SlotValidationIndex {
+
+    /**
+     * Predicates whose results only depend on the {@link Item} and the {@link AccessoriesDataComponents#SLOT_VALIDATION}
+     * component of the given stack
+     */
+    private static final Set<ResourceLocation> STATIC_PREDICATES = Set.of(
+            AccessoriesBaseData.ALL_PREDICATE_ID,
+            AccessoriesBaseData.NONE_PREDICATE_ID,
+            AccessoriesBaseData.TAG_PREDICATE_ID,
+            AccessoriesBaseData.COMPONENT_PREDICATE_ID
+    );
+
+    private static final SlotValidationIndex SERVER = new SlotValidationIndex(false);
+    private static final SlotValidationIndex CLIENT = new SlotValidationIndex(true);
+
+    private final boolean isClientSide;
+
+    @Nullable
+    private volatile IndexState state = null;
+
+    private SlotValidationIndex(boolean isClientSide) {
+        this.isClientSide = isClientSide;
+    }
+
+    public static SlotValidationIndex get(Level level) {
+        return level.isClientSide() ? CLIENT : SERVER;
+    }
+
+    /**
+     * Drops all indexed results as the item tags used by the validators may have been rebound
+     */
+    public static void invalidate() {
+        SERVER.state = null;
+        CLIENT.state = null;
+    }
+
+    /**
+     * @return if the given stack passes the validators of the given slot type
+     */
+    public boolean isValid(Level level, SlotType slotType, ItemStack stack) {
+        var state = getState();
+
+        if (!state.indexedSlots().contains(slotType.name()) || state.slotTypes().get(slotType.name()) != slotType) {
+            return AccessoriesAPI.getPredicateResults(slotType, level, 0, stack);
+        }
+
+        return state.getValidSlots(level, stack).contains(slotType.name());
+    }
+
+    /**
+     * Filters the given slot types down to the ones the given stack passes the validators for
+     */
+    public List<SlotType> filterValid(Level level, Collection<SlotType> slotTypes, ItemStack stack) {
+        var state = getState();
+
+        var validSlots = state.getValidSlots(level, stack);
+
+        var filteredSlots = new ArrayList<SlotType>();
+
+        for (var slotType : slotTypes) {
+            var isValid = (state.indexedSlots().contains(slotType.name()) && state.slotTypes().get(slotType.name()) == slotType)
+                    ? validSlots.contains(slotType.name())
+                    : AccessoriesAPI.getPredicateResults(slotType, level, 0, stack);
+
+            if (isValid) filteredSlots.add(slotType);
+        }
+
+        return filteredSlots;
+    }
+
+    private IndexState getState() {
+        var slotTypes = SlotTypeLoader.INSTANCE.getSlotTypes(this.isClientSide);
+
+        var state = this.state;
+
+        if (state == null || state.slotTypes() != slotTypes) {
+            var indexedSlots = new HashSet<String>();
+
+            for (var slotType : slotTypes.values()) {
+                if (STATIC_PREDICATES.containsAll(slotType.validators())) indexedSlots.add(slotType.name());
+            }
+
+            this.state = state = new IndexState(slotTypes, Set.copyOf(indexedSlots), new ConcurrentHashMap<>());
+        }
+
+        return state;
+    }
+
+    private record IndexState(Map<String, SlotType> slotTypes, Set<String> indexedSlots, Map<StackKey, Set<String>> validSlots) {
+        private Set<String> getValidSlots(Level level, ItemStack stack) {
+            if (this.indexedSlots.isEmpty()) return Set.of();
+
+            var key = new StackKey(stack.getItem(), stack.get(AccessoriesDataComponents.SLOT_VALIDATION));
+
+            var cachedSlots = this.validSlots.get(key);
+
+            if (cachedSlots != null) return cachedSlots;
+
+            var slots = new HashSet<String>();
+
+            for (var slotName : this.indexedSlots) {
+                var slotType = this.slotTypes.get(slotName);
+
+                if (AccessoriesAPI.getPredicateResults(slotType, level, 0, stack)) slots.add(slotName);
+            }
+
+            var validSlots = Set.copyOf(slots);
+
+            this.validSlots.put(key, validSlots);
+
+            return validSlots;
+        }
+    }
+
+    private record StackKey(Item item, @Nullable AccessorySlotValidationComponent slotValidation) {}
+}
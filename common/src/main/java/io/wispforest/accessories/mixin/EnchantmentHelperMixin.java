@@ -2,19 +2,14 @@ package io.wispforest.accessories.mixin;
 
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
-import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
-import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import com.llamalad7.mixinextras.sugar.Local;
 import io.wispforest.accessories.AccessoriesInternals;
 import io.wispforest.accessories.api.AccessoriesAPI;
 import io.wispforest.accessories.api.data.AccessoriesTags;
 import io.wispforest.accessories.api.events.extra.ExtraEventHandler;
-import io.wispforest.accessories.api.slot.SlotEntryReference;
+import io.wispforest.accessories.impl.AccessoriesCapabilityImpl;
 import net.minecraft.core.Holder;
-import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.component.DataComponentType;
-import net.minecraft.core.component.DataComponents;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
@@ -36,19 +31,17 @@ public abstract class EnchantmentHelperMixin {
     @Shadow
     protected static void runIterationOnItem(ItemStack itemStack, EquipmentSlot equipmentSlot, LivingEntity livingEntity, EnchantmentHelper.EnchantmentInSlotVisitor enchantmentInSlotVisitor) {}
 
-    @WrapOperation(method = "getEnchantmentLevel", at = @At(value = "INVOKE", target = "Ljava/util/Map;values()Ljava/util/Collection;"))
-    private static Collection<ItemStack> addAccessoriesStacks(Map instance, Operation<Collection<ItemStack>> original, @Local(argsOnly = true) Holder<Enchantment> enchantment, @Local(argsOnly = true) LivingEntity entity){
-        var returnValue = new ArrayList<>(original.call(instance));
-
+    @ModifyReturnValue(method = "getEnchantmentLevel", at = @At("RETURN"))
+    private static int addAccessoriesLevel(int original, @Local(argsOnly = true) Holder<Enchantment> enchantment, @Local(argsOnly = true) LivingEntity entity){
         //if(Accessories.enchantmentValidForRedirect(enchantment)) {
         var capability = entity.accessoriesCapability();
 
         if(capability != null) {
-            returnValue.addAll(capability.getAllEquipped().stream().map(SlotEntryReference::stack).toList());
+            return Math.max(original, ((AccessoriesCapabilityImpl) capability).getEnchantmentCache().getLevel(enchantment));
         }
         //}
 
-        return returnValue;
+        return original;
     }
 
 //    @ModifyReturnValue(method = "getEnchantmentLevel", at = @At(value = "RETURN"))
@@ -67,31 +60,19 @@ public abstract class EnchantmentHelperMixin {
         var capability = livingEntity.accessoriesCapability();
 
         if(capability != null){
-            var allEquippedAccessories = capability
-                    .getAllEquipped()
-                    .stream()
-                    .filter(entryReference -> {
-                        var itemStack = entryReference.stack();
-
-                        if(predicate.test(entryReference.stack())) {
-                            ItemEnchantments itemEnchantments = itemStack.getOrDefault(DataComponents.ENCHANTMENTS, ItemEnchantments.EMPTY);
-
-                            for(var entry : itemEnchantments.entrySet()) {
-                                var holder = entry.getKey();
-
-                                if (holder.value().effects().has(dataComponentType) && enchantmentValidForRedirect(livingEntity.registryAccess(), holder.value())) { //((Enchantment)holder.value()).matchingSlot(equipmentSlot)
-                                    return true;
-                                }
-                            }
-                        }
-
-                        return false;
-                    }).map(entryReference -> {
-                        return new EnchantedItemInUse(entryReference.stack(), AccessoriesInternals.INTERNAL_SLOT, livingEntity, item -> AccessoriesAPI.breakStack(entryReference.reference()));
-                    })
-                    .toList();
-
-            list.addAll(allEquippedAccessories);
+            for (var enchantedEntry : ((AccessoriesCapabilityImpl) capability).getEnchantmentCache().getEntriesWithEffect(dataComponentType)) {
+                var entryReference = enchantedEntry.entryReference();
+
+                if(!predicate.test(entryReference.stack())) continue;
+
+                for (var holder : enchantedEntry.enchantments()) {
+                    if (enchantmentValidForRedirect(holder)) { //((Enchantment)holder.value()).matchingSlot(equipmentSlot)
+                        list.add(new EnchantedItemInUse(entryReference.stack(), AccessoriesInternals.INTERNAL_SLOT, livingEntity, item -> AccessoriesAPI.breakStack(entryReference.reference())));
+
+                        break;
+                    }
+                }
+            }
         }
     }
 
@@ -100,12 +81,10 @@ public abstract class EnchantmentHelperMixin {
         var capability = livingEntity.accessoriesCapability();
 
         if(capability != null){
-            capability.getAllEquipped()
-                    .forEach(entryReference -> {
-                        var itemStack = entryReference.stack();
-
-                        runIterationOnItem(itemStack, AccessoriesInternals.INTERNAL_SLOT, livingEntity, enchantmentInSlotVisitor);
-                    });
+            // Only stacks with enchantments can have any effect on the visitor
+            for (var itemStack : ((AccessoriesCapabilityImpl) capability).getEnchantmentCache().enchantedStacks()) {
+                runIterationOnItem(itemStack, AccessoriesInternals.INTERNAL_SLOT, livingEntity, enchantmentInSlotVisitor);
+            }
         }
     }
 
@@ -114,19 +93,16 @@ public abstract class EnchantmentHelperMixin {
             at = @At(value = "INVOKE", target = "Lnet/minecraft/world/item/enchantment/Enchantment;matchingSlot(Lnet/minecraft/world/entity/EquipmentSlot;)Z")
     )
     private static boolean adjustIfIterationOccurs(boolean original, @Local(argsOnly = true) EquipmentSlot equipmentSlot, @Local(argsOnly = true) LivingEntity livingEntity, @Local(ordinal = 0) Holder<Enchantment> holder) {
-        if(equipmentSlot.equals(AccessoriesInternals.INTERNAL_SLOT) && enchantmentValidForRedirect(livingEntity.registryAccess(), holder.value())) {
+        if(equipmentSlot.equals(AccessoriesInternals.INTERNAL_SLOT) && enchantmentValidForRedirect(holder)) {
             return true;
         }
 
         return original;
     }
 
+    // Tags are bound to the registry holders on reload meaning no lookup is required per call
     @Unique
-    private static boolean enchantmentValidForRedirect(RegistryAccess access, Enchantment enchantment) {
-        var enchantments = access.registry(Registries.ENCHANTMENT).orElseThrow();
-
-        return enchantments.getHolder(enchantments.getResourceKey(enchantment).orElseThrow())
-                .orElseThrow()
-                .is(AccessoriesTags.VALID_FOR_REDIRECTION);
+    private static boolean enchantmentValidForRedirect(Holder<Enchantment> holder) {
+        return holder.is(AccessoriesTags.VALID_FOR_REDIRECTION);
     }
 }
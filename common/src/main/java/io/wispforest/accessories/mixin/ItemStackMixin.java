@@ -0,0 +1,92 @@
+package io.wispforest.accessories.mixin;
+
+import io.wispforest.accessories.impl.AttributeModifierCache;
+import io.wispforest.accessories.impl.ExpandedSimpleContainer;
+import io.wispforest.accessories.pond.CachedAttributesExtension;
+import io.wispforest.accessories.pond.TrackedStackExtension;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Used to flag the given slot within an {@link ExpandedSimpleContainer} as changed when a
+ * stack held within it is mutated in place rather than being replaced along with dropping
+ * any cached attribute modifiers when the components of the stack change
+ */
+@Mixin(ItemStack.class)
+public abstract class ItemStackMixin implements TrackedStackExtension, CachedAttributesExtension {
+
+    @Unique
+    @Nullable
+    private ExpandedSimpleContainer owningContainer = null;
+
+    @Unique
+    private int owningSlot = -1;
+
+    @Unique
+    @Nullable
+    private AttributeModifierCache attributeCache = null;
+
+    @Override
+    public void accessories$setOwningContainer(@Nullable ExpandedSimpleContainer container, int slot) {
+        this.owningContainer = container;
+        this.owningSlot = slot;
+    }
+
+    @Override
+    @Nullable
+    public ExpandedSimpleContainer accessories$getOwningContainer() {
+        return this.owningContainer;
+    }
+
+    @Override
+    @Nullable
+    public AttributeModifierCache accessories$getAttributeCache() {
+        return this.attributeCache;
+    }
+
+    @Override
+    public void accessories$setAttributeCache(@Nullable AttributeModifierCache cache) {
+        this.attributeCache = cache;
+    }
+
+    @Unique
+    private void accessories$onComponentsChanged() {
+        this.attributeCache = null;
+
+        accessories$markOwnerChanged();
+    }
+
+    @Unique
+    private void accessories$markOwnerChanged() {
+        if (this.owningContainer != null) this.owningContainer.markSlotChanged(this.owningSlot, (ItemStack) (Object) this);
+    }
+
+    @Inject(method = "set(Lnet/minecraft/core/component/DataComponentType;Ljava/lang/Object;)Ljava/lang/Object;", at = @At("RETURN"))
+    private void accessories$onComponentSet(CallbackInfoReturnable<Object> cir) {
+        accessories$onComponentsChanged();
+    }
+
+    @Inject(method = "remove(Lnet/minecraft/core/component/DataComponentType;)Ljava/lang/Object;", at = @At("RETURN"))
+    private void accessories$onComponentRemove(CallbackInfoReturnable<Object> cir) {
+        accessories$onComponentsChanged();
+    }
+
+    @Inject(method = {
+            "applyComponents(Lnet/minecraft/core/component/DataComponentPatch;)V",
+            "applyComponents(Lnet/minecraft/core/component/DataComponentMap;)V"
+    }, at = @At("RETURN"))
+    private void accessories$onComponentsApplied(CallbackInfo ci) {
+        accessories$onComponentsChanged();
+    }
+
+    @Inject(method = "setCount(I)V", at = @At("RETURN"))
+    private void accessories$onCountChange(CallbackInfo ci) {
+        accessories$markOwnerChanged();
+    }
+}
@@ -10,6 +10,7 @@ import io.wispforest.accessories.api.AccessoriesHolder;
 import io.wispforest.accessories.api.slot.SlotEntryReference;
 import io.wispforest.accessories.data.EntitySlotLoader;
 import io.wispforest.accessories.impl.AccessoriesCapabilityImpl;
+import io.wispforest.accessories.impl.AccessoriesMetrics;
 import io.wispforest.accessories.pond.AccessoriesAPIAccess;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
@@ -17,6 +18,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -25,14 +27,50 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(LivingEntity.class)
 public abstract class LivingEntityMixin implements AccessoriesAPIAccess {
 
+    @Unique
+    @Nullable
+    private AccessoriesCapabilityImpl cachedCapability = null;
+
+    @Unique
+    @Nullable
+    private AccessoriesHolder cachedHolder = null;
+
+    @Unique
+    private int cachedSlotDataVersion = -1;
+
     @Override
     @Nullable
     public AccessoriesCapability accessoriesCapability() {
-        var slots = EntitySlotLoader.getEntitySlots((LivingEntity) (Object) this);
+        AccessoriesMetrics.CAPABILITY_LOOKUPS.increment();
+
+        var entity = (LivingEntity) (Object) this;
+
+        var slotDataVersion = EntitySlotLoader.INSTANCE.getDataVersion(entity.level().isClientSide());
+
+        if (this.cachedSlotDataVersion == slotDataVersion) {
+            if (this.cachedCapability == null) return null;
+
+            // Holder may be replaced when copied or modified by the platform, requiring a new capability
+            if (this.cachedHolder == AccessoriesInternals.getHolder(entity)) return this.cachedCapability;
+        }
+
+        this.cachedSlotDataVersion = slotDataVersion;
+
+        var slots = EntitySlotLoader.getEntitySlots(entity);
+
+        if(slots.isEmpty()) {
+            this.cachedCapability = null;
+            this.cachedHolder = null;
+
+            return null;
+        }
+
+        AccessoriesMetrics.CAPABILITY_CONSTRUCTIONS.increment();
 
-        if(slots.isEmpty()) return null;
+        this.cachedCapability = new AccessoriesCapabilityImpl(entity);
+        this.cachedHolder = AccessoriesInternals.getHolder(entity);
 
-        return new AccessoriesCapabilityImpl((LivingEntity) (Object) this);
+        return this.cachedCapability;
     }
 
     @Override
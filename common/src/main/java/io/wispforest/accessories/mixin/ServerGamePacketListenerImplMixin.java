@@ -0,0 +1,29 @@
+package io.wispforest.accessories.mixin;
+
+import io.wispforest.accessories.client.AccessoriesMenu;
+import net.minecraft.network.protocol.game.ServerboundContainerClickPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerGamePacketListenerImpl.class)
+public abstract class ServerGamePacketListenerImplMixin {
+
+    @Shadow public ServerPlayer player;
+
+    @Inject(method = "handleContainerClick", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ServerPlayer;resetLastActionTime()V", shift = At.Shift.AFTER), cancellable = true)
+    private void rejectPreviousLayoutClicks(ServerboundContainerClickPacket packet, CallbackInfo ci) {
+        if (!(this.player.containerMenu instanceof AccessoriesMenu menu) || menu.containerId != packet.getContainerId()) return;
+
+        // Slot indices of clicks made before the rebuilt slot layout was received may point to different slots
+        if (!menu.isFromPreviousLayout(packet.getStateId())) return;
+
+        menu.sendAllDataToRemote();
+
+        ci.cancel();
+    }
+}
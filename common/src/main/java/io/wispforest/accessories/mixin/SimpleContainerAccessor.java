@@ -0,0 +1,13 @@
+package io.wispforest.accessories.mixin;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(SimpleContainer.class)
+public interface SimpleContainerAccessor {
+    @Mutable @Accessor("items") void accessories$setItems(NonNullList<ItemStack> items);
+}
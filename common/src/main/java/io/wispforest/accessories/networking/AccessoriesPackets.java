@@ -2,12 +2,16 @@ package io.wispforest.accessories.networking;
 
 import io.wispforest.accessories.networking.base.NetworkBuilderRegister;
 import io.wispforest.accessories.networking.client.AccessoryBreak;
+import io.wispforest.accessories.networking.client.SyncAppearance;
 import io.wispforest.accessories.networking.client.SyncContainerData;
 import io.wispforest.accessories.networking.client.SyncData;
+import io.wispforest.accessories.networking.client.SyncDataHash;
+import io.wispforest.accessories.networking.client.SyncEmptyHolder;
 import io.wispforest.accessories.networking.client.SyncEntireContainer;
 import io.wispforest.accessories.networking.holder.SyncHolderChange;
 import io.wispforest.accessories.networking.server.MenuScroll;
 import io.wispforest.accessories.networking.server.NukeAccessories;
+import io.wispforest.accessories.networking.server.RequestSyncData;
 import io.wispforest.accessories.networking.server.ScreenOpen;
 import io.wispforest.accessories.networking.server.SyncCosmeticToggle;
 
@@ -17,10 +21,14 @@ public class AccessoriesPackets {
         register.registerBuilderC2S(ScreenOpen.class, ScreenOpen.ENDEC);
         register.registerBuilderC2S(NukeAccessories.class, NukeAccessories.ENDEC);
         register.registerBuilderC2S(SyncCosmeticToggle.class, SyncCosmeticToggle.ENDEC);
+        register.registerBuilderC2S(RequestSyncData.class, RequestSyncData.ENDEC);
 
         register.registerBuilderS2C(SyncEntireContainer.class, SyncEntireContainer.ENDEC);
         register.registerBuilderS2C(SyncContainerData.class, SyncContainerData.ENDEC);
+        register.registerBuilderS2C(SyncAppearance.class, SyncAppearance.ENDEC);
+        register.registerBuilderS2C(SyncEmptyHolder.class, SyncEmptyHolder.ENDEC);
         register.registerBuilderS2C(SyncData.class, SyncData.ENDEC);
+        register.registerBuilderS2C(SyncDataHash.class, SyncDataHash.ENDEC);
         register.registerBuilderS2C(AccessoryBreak.class, AccessoryBreak.ENDEC);
 
         register.registerBuilderBiDi(MenuScroll.class, MenuScroll.ENDEC);
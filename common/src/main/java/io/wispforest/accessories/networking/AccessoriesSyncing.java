@@ -0,0 +1,151 @@
+package io.wispforest.accessories.networking;
+
+import io.wispforest.accessories.AccessoriesInternals;
+import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.client.AccessoriesMenu;
+import io.wispforest.accessories.impl.AccessoriesHolderImpl;
+import io.wispforest.accessories.impl.AccessoriesMetrics;
+import io.wispforest.accessories.networking.base.BaseNetworkHandler;
+import io.wispforest.accessories.networking.base.HandledPacketPayload;
+import io.wispforest.accessories.networking.client.SyncAppearance;
+import io.wispforest.accessories.networking.client.SyncContainerData;
+import io.wispforest.accessories.networking.client.SyncEmptyHolder;
+import io.wispforest.accessories.networking.client.SyncEntireContainer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.LivingEntity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Handles the syncing of accessory state to players based on what they require, with the entity itself and any player with
+ * the entities {@link AccessoriesMenu} open receiving the full state while players only tracking the entity receive
+ * the {@link SyncAppearance} of the entity.
+ */
+@ApiStatus.Internal
+public final class AccessoriesSyncing {
+
+    /**
+     * @return If the given player requires the full state of the given entity
+     */
+    public static boolean requiresFullState(ServerPlayer player, LivingEntity entity) {
+        return player == entity || (player.containerMenu instanceof AccessoriesMenu menu && menu.accessoryTarget() == entity);
+    }
+
+    /**
+     * Queue the given container changes to all tracking players and the entity itself
+     */
+    public static void queueChanges(LivingEntity entity, AccessoriesCapability capability, SyncContainerData packet) {
+        var networkHandler = AccessoriesInternals.getNetworkHandler();
+
+        SyncAppearance appearance = null;
+
+        for (var player : networkHandler.getTrackingPlayers(entity)) {
+            if (requiresFullState(player, entity)) {
+                networkHandler.queueToPlayer(player, entity, packet);
+
+                continue;
+            }
+
+            // Resolved only once as the drawn stacks are the same for every tracking player
+            if (appearance == null) appearance = SyncAppearance.of(capability, packet);
+
+            if (appearance.isEmpty()) continue;
+
+            networkHandler.queueToPlayer(player, entity, appearance);
+
+            AccessoriesMetrics.SYNC_PACKETS_SLIMMED.increment();
+        }
+
+        if (entity instanceof ServerPlayer serverPlayer) networkHandler.queueToPlayer(serverPlayer, entity, packet);
+    }
+
+    /**
+     * Queue a full sync of the given entity to all tracking players and the entity itself
+     */
+    public static void queueFullSync(LivingEntity entity) {
+        if (entity.level().isClientSide()) return;
+
+        var networkHandler = AccessoriesInternals.getNetworkHandler();
+
+        var fullState = BaseNetworkHandler.memoize(() -> createFullState(entity));
+        var appearance = BaseNetworkHandler.memoize(() -> createAppearance(entity));
+
+        for (var player : networkHandler.getTrackingPlayers(entity)) queueFullSync(player, entity, fullState, appearance);
+
+        if (entity instanceof ServerPlayer serverPlayer) networkHandler.queueFullSyncToPlayer(serverPlayer, entity, countEmptyHolders(fullState));
+    }
+
+    /**
+     * Queue a full sync of the given entity to the given player
+     */
+    public static void queueFullSync(ServerPlayer player, LivingEntity entity) {
+        queueFullSync(player, entity, () -> createFullState(entity), () -> createAppearance(entity));
+    }
+
+    private static void queueFullSync(ServerPlayer player, LivingEntity entity, Supplier<HandledPacketPayload> fullState, Supplier<HandledPacketPayload> appearance) {
+        var networkHandler = AccessoriesInternals.getNetworkHandler();
+
+        if (requiresFullState(player, entity)) {
+            networkHandler.queueFullSyncToPlayer(player, entity, countEmptyHolders(fullState));
+        } else {
+            networkHandler.queueFullSyncToPlayer(player, entity, countEmptyHolders(appearance));
+
+            AccessoriesMetrics.SYNC_PACKETS_SLIMMED.increment();
+        }
+    }
+
+    /**
+     * Sends the full state of the given entity to the given player right away, required before the player opens the
+     * {@link AccessoriesMenu} of an entity it was only tracking
+     */
+    public static void sendFullState(ServerPlayer player, LivingEntity entity) {
+        var networkHandler = AccessoriesInternals.getNetworkHandler();
+
+        networkHandler.queueFullSyncToPlayer(player, entity, countEmptyHolders(() -> createFullState(entity)));
+        networkHandler.flushQueue(player);
+    }
+
+    @Nullable
+    private static HandledPacketPayload createFullState(LivingEntity entity) {
+        var capability = getCapability(entity);
+
+        if (capability == null) return null;
+
+        return isEmpty(capability) ? new SyncEmptyHolder(entity.getId()) : SyncEntireContainer.of(capability);
+    }
+
+    @Nullable
+    private static HandledPacketPayload createAppearance(LivingEntity entity) {
+        var capability = getCapability(entity);
+
+        if (capability == null) return null;
+
+        return isEmpty(capability) ? new SyncEmptyHolder(entity.getId()) : SyncAppearance.create(capability);
+    }
+
+    @Nullable
+    private static AccessoriesCapability getCapability(LivingEntity entity) {
+        return !entity.isRemoved() ? AccessoriesCapability.get(entity) : null;
+    }
+
+    // Empty holders only require the client to reset the entity to its default state
+    private static boolean isEmpty(AccessoriesCapability capability) {
+        return ((AccessoriesHolderImpl) capability.getHolder()).isEmpty();
+    }
+
+    /**
+     * @return A supplier counting each time the given possibly shared supplier resolves to a {@link SyncEmptyHolder} for
+     * the player it was queued for
+     */
+    private static Supplier<HandledPacketPayload> countEmptyHolders(Supplier<HandledPacketPayload> packet) {
+        return () -> {
+            var resolvedPacket = packet.get();
+
+            if (resolvedPacket instanceof SyncEmptyHolder) AccessoriesMetrics.EMPTY_HOLDER_SYNCS.increment();
+
+            return resolvedPacket;
+        };
+    }
+}
@@ -1,19 +1,37 @@
 package io.wispforest.accessories.networking.base;
 
+import io.netty.buffer.Unpooled;
+import io.wispforest.accessories.endec.CodecUtils;
 import io.wispforest.accessories.endec.MinecraftEndecs;
+import io.wispforest.accessories.endec.PacketBufferAttribute;
+import io.wispforest.accessories.endec.RegistriesAttribute;
+import io.wispforest.accessories.impl.AccessoriesMetrics;
+import io.wispforest.accessories.mixin.ServerCommonPacketListenerImplAccessor;
 import io.wispforest.endec.Endec;
+import io.wispforest.endec.SerializationContext;
+import io.wispforest.endec.format.bytebuf.ByteBufSerializer;
 import io.wispforest.endec.impl.ReflectiveEndecBuilder;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public abstract class BaseNetworkHandler {
@@ -44,7 +62,11 @@ public abstract class BaseNetworkHandler {
     public abstract <M extends HandledPacketPayload> void sendToPlayer(ServerPlayer player, M packet);
 
     public <M extends HandledPacketPayload> void sendToAllPlayers(MinecraftServer server, M packet){
-        for (var player : server.getPlayerList().getPlayers()) sendToPlayer(player, packet);
+        var players = server.getPlayerList().getPlayers();
+
+        if (players.isEmpty()) return;
+
+        sendToPlayers(players, packet, server.registryAccess());
     }
 
     public <M extends HandledPacketPayload> void sendToTrackingAndSelf(Entity entity, M packet) {
@@ -53,6 +75,302 @@ public abstract class BaseNetworkHandler {
 
     public abstract <M extends HandledPacketPayload> void sendToTrackingAndSelf(Entity entity, Supplier<M> packet);
 
+    /**
+     * @return All players currently tracking the given entity excluding the entity itself
+     */
+    public abstract Collection<ServerPlayer> getTrackingPlayers(Entity entity);
+
+    protected Packet<? super ClientGamePacketListener> toClientboundPacket(HandledPacketPayload packet) {
+        return new ClientboundCustomPayloadPacket(packet);
+    }
+
+    //-- Encode Once Payloads
+
+    /**
+     * @return If packets sent to the given player are serialized, with memory connections used by the integrated server
+     * receiving the payload as is
+     */
+    public static boolean isRemote(ServerPlayer player) {
+        return !((ServerCommonPacketListenerImplAccessor) player.connection).accessories$getConnection().isMemoryConnection();
+    }
+
+    /**
+     * @return The number of players within the given collection receiving a serialized form of any sent packet
+     */
+    public static int remoteCount(Collection<ServerPlayer> players) {
+        var count = 0;
+
+        for (var player : players) {
+            if (isRemote(player)) count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Sends the given packet to the given players, with the packet only being encoded ahead of time when multiple players
+     * would otherwise encode it for themselves
+     */
+    protected void sendToPlayers(Collection<ServerPlayer> players, HandledPacketPayload packet, RegistryAccess registryAccess) {
+        var encodedPacket = remoteCount(players) > 1 ? encodeOnce(packet, registryAccess) : packet;
+
+        for (var player : players) sendToPlayer(player, isRemote(player) ? encodedPacket : packet);
+    }
+
+    private final Map<Class<?>, Endec<?>> s2cEndecs = new HashMap<>();
+
+    /**
+     * Encodes the given packet into a {@link EncodedPayload} to be sent to multiple players without being encoded again
+     * for each connection, returning the given packet if unable to be encoded ahead of time
+     */
+    @SuppressWarnings("unchecked")
+    public HandledPacketPayload encodeOnce(HandledPacketPayload packet, RegistryAccess registryAccess) {
+        if (packet instanceof EncodedPayload) return packet;
+
+        var endec = (Endec<HandledPacketPayload>) this.s2cEndecs.get(packet.getClass());
+
+        if (endec == null) return packet;
+
+        var buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+
+        var serializer = ByteBufSerializer.of(buf);
+
+        endec.encode(SerializationContext.attributes(RegistriesAttribute.of(registryAccess), PacketBufferAttribute.of(buf, serializer)), serializer, packet);
+
+        AccessoriesMetrics.SYNC_BYTES_ENCODED.add(buf.readableBytes());
+
+        return new EncodedPayload(packet, buf);
+    }
+
+    /**
+     * @return Codec for the given packet type able to write any {@link EncodedPayload} of the given type
+     */
+    public <B extends FriendlyByteBuf, M extends HandledPacketPayload> StreamCodec<B, M> packetCodec(Endec<M> endec) {
+        StreamCodec<B, M> codec = CodecUtils.packetCodec(endec);
+
+        return new StreamCodec<>() {
+            @Override
+            public M decode(B buf) {
+                return codec.decode(buf);
+            }
+
+            @Override
+            public void encode(B buf, M value) {
+                if (value instanceof EncodedPayload encodedPayload) {
+                    encodedPayload.writeTo(buf);
+
+                    AccessoriesMetrics.SYNC_BYTES_SENT.add(encodedPayload.size());
+
+                    return;
+                }
+
+                var startIndex = buf.writerIndex();
+
+                codec.encode(buf, value);
+
+                var size = buf.writerIndex() - startIndex;
+
+                AccessoriesMetrics.SYNC_BYTES_ENCODED.add(size);
+                AccessoriesMetrics.SYNC_BYTES_SENT.add(size);
+            }
+        };
+    }
+
+    //-- Queued Syncing
+
+    private static final int MAX_BUNDLE_SIZE = 4096;
+
+    private final Map<ServerPlayer, Map<Integer, QueuedEntitySync>> queuedSyncs = new LinkedHashMap<>();
+
+    /**
+     * Queue the given partial update for the entity to all tracking players and the entity itself to be sent at the end of the current tick
+     */
+    public <M extends HandledPacketPayload> void queueToTrackingAndSelf(Entity entity, M packet) {
+        if (entity.level().isClientSide) return;
+
+        for (var player : getTrackingPlayers(entity)) queueToPlayer(player, entity, packet);
+
+        if (entity instanceof ServerPlayer serverPlayer) queueToPlayer(serverPlayer, entity, packet);
+    }
+
+    /**
+     * Queue the given partial update for the entity to the given player to be sent at the end of the current tick. Such is
+     * combined with any other partial update for the entity if possible or dropped if a full sync has been queued for the entity.
+     */
+    public <M extends HandledPacketPayload> void queueToPlayer(ServerPlayer player, Entity entity, M packet) {
+        var queuedSync = getQueuedSync(player, entity);
+
+        if (queuedSync.fullSync != null) {
+            AccessoriesMetrics.SYNC_PACKETS_DROPPED.increment();
+
+            return;
+        }
+
+        queuedSync.addPartial(packet);
+    }
+
+    /**
+     * Queue a full sync for the given entity to all tracking players and the entity itself to be sent at the end of the current tick
+     */
+    public void queueFullSyncToTrackingAndSelf(Entity entity, Supplier<? extends HandledPacketPayload> packet) {
+        if (entity.level().isClientSide) return;
+
+        // Shared supplier instance allows for the packet to only be created once for all players
+        packet = memoize(packet);
+
+        for (var player : getTrackingPlayers(entity)) queueFullSyncToPlayer(player, entity, packet);
+
+        if (entity instanceof ServerPlayer serverPlayer) queueFullSyncToPlayer(serverPlayer, entity, packet);
+    }
+
+    /**
+     * Queue a full sync for the given entity to the given player to be sent at the end of the current tick, dropping any queued partial
+     * updates for the entity. The packet is only created when flushed so that it reflects the state at the end of the tick
+     * with the supplier being allowed to return null if the entity is no longer valid.
+     */
+    public void queueFullSyncToPlayer(ServerPlayer player, Entity entity, Supplier<? extends HandledPacketPayload> packet) {
+        var queuedSync = getQueuedSync(player, entity);
+
+        AccessoriesMetrics.SYNC_PACKETS_DROPPED.add(queuedSync.partials.size());
+
+        queuedSync.partials.clear();
+        queuedSync.fullSync = packet;
+    }
+
+    /**
+     * @return A supplier only calling the given supplier once at most, used to share a full sync packet between multiple players
+     */
+    public static <M extends HandledPacketPayload> Supplier<M> memoize(Supplier<M> supplier) {
+        if (supplier instanceof MemoizedSupplier<M>) return supplier;
+
+        return new MemoizedSupplier<>(supplier);
+    }
+
+    private static final class MemoizedSupplier<M extends HandledPacketPayload> implements Supplier<M> {
+        private Supplier<M> supplier;
+        private M value = null;
+
+        private MemoizedSupplier(Supplier<M> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public M get() {
+            if (this.supplier != null) {
+                this.value = this.supplier.get();
+                this.supplier = null;
+            }
+
+            return this.value;
+        }
+    }
+
+    private QueuedEntitySync getQueuedSync(ServerPlayer player, Entity entity) {
+        return this.queuedSyncs.computeIfAbsent(player, p -> new LinkedHashMap<>())
+                .computeIfAbsent(entity.getId(), id -> new QueuedEntitySync());
+    }
+
+    /**
+     * Send all queued packets with a single bundle for each player
+     */
+    public void flushQueue() {
+        if (this.queuedSyncs.isEmpty()) return;
+
+        // Packets queued for multiple players are the same instance allowing for such to only be encoded once when
+        // more than one player would otherwise encode the packet for themselves
+        var remoteRecipients = new Reference2IntOpenHashMap<HandledPacketPayload>();
+
+        this.queuedSyncs.forEach((player, syncs) -> {
+            if (player.hasDisconnected() || !isRemote(player)) return;
+
+            syncs.forEach((entityId, queuedSync) -> queuedSync.forEachPacket(packet -> remoteRecipients.addTo(packet, 1)));
+        });
+
+        var encodedPackets = new IdentityHashMap<HandledPacketPayload, HandledPacketPayload>();
+
+        this.queuedSyncs.forEach((player, syncs) -> {
+            if (!isRemote(player)) {
+                flushQueue(player, syncs, Function.identity());
+
+                return;
+            }
+
+            var registryAccess = player.server.registryAccess();
+
+            flushQueue(player, syncs, packet -> (remoteRecipients.getInt(packet) > 1)
+                    ? encodedPackets.computeIfAbsent(packet, p -> encodeOnce(p, registryAccess))
+                    : packet);
+        });
+
+        this.queuedSyncs.clear();
+    }
+
+    /**
+     * Send all queued packets for the given player immediately, required when something depends on the data being on the client beforehand
+     */
+    public void flushQueue(ServerPlayer player) {
+        var syncs = this.queuedSyncs.remove(player);
+
+        if (syncs != null) flushQueue(player, syncs, Function.identity());
+    }
+
+    private void flushQueue(ServerPlayer player, Map<Integer, QueuedEntitySync> syncs, Function<HandledPacketPayload, HandledPacketPayload> encoder) {
+        if (player.hasDisconnected()) return;
+
+        var packets = new ArrayList<Packet<? super ClientGamePacketListener>>();
+
+        syncs.forEach((entityId, queuedSync) -> queuedSync.forEachPacket(packet -> packets.add(toClientboundPacket(encoder.apply(packet)))));
+
+        if (packets.isEmpty()) return;
+
+        AccessoriesMetrics.SYNC_PACKETS_SENT.add(packets.size());
+
+        if (packets.size() == 1) {
+            player.connection.send(packets.get(0));
+        } else {
+            for (int i = 0; i < packets.size(); i += MAX_BUNDLE_SIZE) {
+                player.connection.send(new ClientboundBundlePacket(packets.subList(i, Math.min(i + MAX_BUNDLE_SIZE, packets.size()))));
+            }
+        }
+
+        AccessoriesMetrics.SYNC_BUNDLES_SENT.increment();
+    }
+
+    private static final class QueuedEntitySync {
+        private final List<HandledPacketPayload> partials = new ArrayList<>();
+        @Nullable private Supplier<? extends HandledPacketPayload> fullSync = null;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void addPartial(HandledPacketPayload packet) {
+            AccessoriesMetrics.SYNC_PACKETS_QUEUED.increment();
+
+            if (!this.partials.isEmpty()) {
+                var lastIndex = this.partials.size() - 1;
+                var last = this.partials.get(lastIndex);
+
+                if (last instanceof CoalescingPacketPayload coalescing && last.getClass() == packet.getClass()) {
+                    this.partials.set(lastIndex, (HandledPacketPayload) coalescing.coalesce((CoalescingPacketPayload) packet));
+
+                    AccessoriesMetrics.SYNC_PACKETS_COALESCED.increment();
+
+                    return;
+                }
+            }
+
+            this.partials.add(packet);
+        }
+
+        private void forEachPacket(Consumer<HandledPacketPayload> consumer) {
+            if (this.fullSync != null) {
+                var fullSync = this.fullSync.get();
+
+                if (fullSync != null) consumer.accept(fullSync);
+            } else {
+                this.partials.forEach(consumer);
+            }
+        }
+    }
+
     //--
 
     protected final NetworkBuilderRegister createRegister() {
@@ -86,6 +404,7 @@ public abstract class BaseNetworkHandler {
                 }
 
                 BaseNetworkHandler.this.s2cBuilders.put(builder.id(), builder);
+                BaseNetworkHandler.this.s2cEndecs.put(messageType, endec);
             }
 
             @Override
@@ -100,6 +419,7 @@ public abstract class BaseNetworkHandler {
 
                 BaseNetworkHandler.this.c2sBuilders.put(builder.id(), builder);
                 BaseNetworkHandler.this.s2cBuilders.put(builder.id(), builder);
+                BaseNetworkHandler.this.s2cEndecs.put(messageType, endec);
             }
         };
     }
@@ -0,0 +1,14 @@
+package io.wispforest.accessories.networking.base;
+
+/**
+ * Packet that is able to be combined with another packet of the same type targeting the same entity
+ * when queued within the same tick using {@link BaseNetworkHandler#queueToPlayer}.
+ */
+public interface CoalescingPacketPayload<M extends CoalescingPacketPayload<M>> extends HandledPacketPayload {
+
+    /**
+     * @param next The packet queued after this packet
+     * @return A packet with the same effect as applying this packet followed by the next packet
+     */
+    M coalesce(M next);
+}
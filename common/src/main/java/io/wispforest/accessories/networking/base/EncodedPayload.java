@@ -0,0 +1,37 @@
+package io.wispforest.accessories.networking.base;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Payload holding the already encoded form of the given payload allowing for such to be encoded once when sent to multiple
+ * players. The bytes are written using the codec of the given payload meaning it is received as the given payload on the
+ * client, with local connections never encoding the payload being handled by delegating to the given payload.
+ *
+ * @param bytes Encoded form of the payload which is never modified after being created and only read using absolute indices
+ */
+public record EncodedPayload(HandledPacketPayload payload, ByteBuf bytes) implements HandledPacketPayload {
+
+    @Override
+    public BaseNetworkHandler handler() {
+        return this.payload.handler();
+    }
+
+    @Override
+    public Type<? extends HandledPacketPayload> type() {
+        return this.payload.type();
+    }
+
+    @Override
+    public void handle(Player player) {
+        this.payload.handle(player);
+    }
+
+    public int size() {
+        return this.bytes.readableBytes();
+    }
+
+    void writeTo(ByteBuf buf) {
+        buf.writeBytes(this.bytes, this.bytes.readerIndex(), this.bytes.readableBytes());
+    }
+}
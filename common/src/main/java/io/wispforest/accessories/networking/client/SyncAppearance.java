@@ -0,0 +1,218 @@
+package io.wispforest.accessories.networking.client;
+
+import com.mojang.logging.LogUtils;
+import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.client.SyncDataCache;
+import io.wispforest.accessories.api.AccessoriesContainer;
+import io.wispforest.accessories.data.SlotIdLookup;
+import io.wispforest.accessories.data.SlotTypeLoader;
+import io.wispforest.accessories.endec.MinecraftEndecs;
+import io.wispforest.accessories.impl.AccessoriesContainerImpl;
+import io.wispforest.accessories.impl.AccessoriesHolderImpl;
+import io.wispforest.accessories.networking.BaseAccessoriesPacket;
+import io.wispforest.accessories.networking.base.CoalescingPacketPayload;
+import io.wispforest.endec.Endec;
+import io.wispforest.endec.impl.StructEndecBuilder;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slim variant of {@link SyncEntireContainer} and {@link SyncContainerData} sent to players only tracking a given entity
+ * containing just the stack drawn within each slot, being the cosmetic stack if present or the accessory otherwise,
+ * and the render options. Slot modifiers, base sizes and any stack hidden behind a cosmetic are never sent.
+ * <p>
+ * Slots are referenced by the network ids found within {@link SlotTypeLoader#getSlotIds(boolean)}.
+ */
+public record SyncAppearance(int entityId, List<ContainerAppearance> containers) implements BaseAccessoriesPacket, CoalescingPacketPayload<SyncAppearance> {
+
+    public static final Endec<SyncAppearance> ENDEC = StructEndecBuilder.of(
+            Endec.VAR_INT.fieldOf("entityId", SyncAppearance::entityId),
+            ContainerAppearance.ENDEC.listOf().fieldOf("containers", SyncAppearance::containers),
+            SyncAppearance::new
+    );
+
+    /**
+     * Creates the complete appearance of the given capability
+     */
+    public static SyncAppearance create(AccessoriesCapability capability) {
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(false);
+
+        var containers = new ArrayList<ContainerAppearance>();
+
+        for (var container : capability.getContainers().values()) {
+            var slotId = slotIds.getId(container.getSlotName());
+
+            if (slotId == -1) continue;
+
+            containers.add(new ContainerAppearance(slotId, container.getSize(), List.copyOf(container.renderOptions()), drawnStacks(container)));
+        }
+
+        return new SyncAppearance(capability.entity().getId(), containers);
+    }
+
+    /**
+     * Creates the appearance changes caused by the given container data for players only tracking the entity, with stacks
+     * being resolved from the current state of the containers.
+     */
+    public static SyncAppearance of(AccessoriesCapability capability, SyncContainerData data) {
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(false);
+        var containers = capability.getContainers();
+
+        var appearances = new LinkedHashMap<Integer, ContainerAppearance>();
+
+        for (var delta : data.containerDeltas()) {
+            if (delta.resize() == null && delta.renderOptions() == null) continue;
+
+            var container = getContainer(containers, slotIds, delta.slotId());
+
+            if (container == null) continue;
+
+            appearances.put(delta.slotId(), (delta.resize() != null)
+                    ? new ContainerAppearance(delta.slotId(), container.getSize(), List.copyOf(container.renderOptions()), drawnStacks(container))
+                    : new ContainerAppearance(delta.slotId(), null, delta.renderOptions(), List.of()));
+        }
+
+        var changedStacks = new LinkedHashMap<Integer, Map<Integer, DrawnStack>>();
+
+        for (var dirtyStacks : List.of(data.dirtyStacks(), data.dirtyCosmeticStacks())) {
+            for (var dirtyStack : dirtyStacks) {
+                var appearance = appearances.get(dirtyStack.slotId());
+
+                // Resized containers already contain every drawn stack
+                if (appearance != null && appearance.size() != null) continue;
+
+                var container = getContainer(containers, slotIds, dirtyStack.slotId());
+
+                if (container == null || dirtyStack.index() >= container.getSize()) continue;
+
+                // Accessory and cosmetic changes to the same slot only require the drawn stack to be sent once
+                changedStacks.computeIfAbsent(dirtyStack.slotId(), slotId -> new LinkedHashMap<>())
+                        .computeIfAbsent(dirtyStack.index(), index -> drawnStack(container, index));
+            }
+        }
+
+        changedStacks.forEach((slotId, stacks) -> {
+            var appearance = appearances.get(slotId);
+
+            appearances.put(slotId, new ContainerAppearance(slotId, null, (appearance != null) ? appearance.renderOptions() : null, List.copyOf(stacks.values())));
+        });
+
+        return new SyncAppearance(data.entityId(), List.copyOf(appearances.values()));
+    }
+
+    @Nullable
+    private static AccessoriesContainer getContainer(Map<String, AccessoriesContainer> containers, SlotIdLookup slotIds, int slotId) {
+        var slotName = slotIds.getName(slotId);
+
+        return (slotName != null) ? containers.get(slotName) : null;
+    }
+
+    private static List<DrawnStack> drawnStacks(AccessoriesContainer container) {
+        var stacks = new ArrayList<DrawnStack>();
+
+        if (!((AccessoriesContainerImpl) container).isMaterialized()) return stacks;
+
+        for (int i = 0; i < container.getSize(); i++) {
+            var drawnStack = drawnStack(container, i);
+
+            if (!drawnStack.stack().isEmpty()) stacks.add(drawnStack);
+        }
+
+        return stacks;
+    }
+
+    private static DrawnStack drawnStack(AccessoriesContainer container, int index) {
+        if (!((AccessoriesContainerImpl) container).isMaterialized()) return new DrawnStack(index, ItemStack.EMPTY, false);
+
+        var cosmetic = container.getCosmeticAccessories().getItem(index);
+
+        if (!cosmetic.isEmpty()) return new DrawnStack(index, cosmetic.copy(), true);
+
+        return new DrawnStack(index, container.getAccessories().getItem(index).copy(), false);
+    }
+
+    public boolean isEmpty() {
+        return this.containers.isEmpty();
+    }
+
+    @Override
+    public SyncAppearance coalesce(SyncAppearance next) {
+        // Appearances are applied in order on the client meaning later entries will override earlier ones
+        if (this.containers.isEmpty()) return next;
+        if (next.containers.isEmpty()) return this;
+
+        var containers = new ArrayList<ContainerAppearance>(this.containers.size() + next.containers.size());
+
+        containers.addAll(this.containers);
+        containers.addAll(next.containers);
+
+        return new SyncAppearance(this.entityId, containers);
+    }
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    @Environment(EnvType.CLIENT)
+    @Override
+    public void handle(Player player) {
+        // Slots are referenced by ids only known once the definitions have been received
+        if (SyncDataCache.deferIfAwaiting(this)) return;
+
+        var entity = player.level().getEntity(entityId);
+
+        if(entity == null) {
+            LOGGER.error("Unable to Sync Appearance for a given Entity as it is null on the Client! [EntityId: {}]", entityId);
+
+            return;
+        }
+
+        if(!(entity instanceof LivingEntity livingEntity)) return;
+
+        var capability = AccessoriesCapability.get(livingEntity);
+
+        if(capability == null) {
+            LOGGER.error("Unable to Sync Appearance for a given Entity as its Capability is null on the Client! [EntityId: {}]", entityId);
+
+            return;
+        }
+
+        ((AccessoriesHolderImpl) capability.getHolder()).applyAppearance(capability, this);
+    }
+
+    /**
+     * Stack drawn within the given slot index
+     *
+     * @param cosmetic If the stack is from the cosmetic container hiding the actual accessory
+     */
+    public record DrawnStack(int index, ItemStack stack, boolean cosmetic) {
+        public static final Endec<DrawnStack> ENDEC = StructEndecBuilder.of(
+                Endec.VAR_INT.fieldOf("index", DrawnStack::index),
+                MinecraftEndecs.OPTIONAL_ITEM_STACK.fieldOf("stack", DrawnStack::stack),
+                Endec.BOOLEAN.fieldOf("cosmetic", DrawnStack::cosmetic),
+                DrawnStack::new
+        );
+    }
+
+    /**
+     * Appearance of a given container with any unchanged property being null or empty. When the size is present, the
+     * container is cleared before the stacks are applied meaning every drawn stack will be present.
+     */
+    public record ContainerAppearance(int slotId, @Nullable Integer size, @Nullable List<Boolean> renderOptions, List<DrawnStack> stacks) {
+        public static final Endec<ContainerAppearance> ENDEC = StructEndecBuilder.of(
+                Endec.VAR_INT.fieldOf("slotId", ContainerAppearance::slotId),
+                Endec.VAR_INT.nullableOf().fieldOf("size", ContainerAppearance::size),
+                Endec.BOOLEAN.listOf().nullableOf().fieldOf("renderOptions", ContainerAppearance::renderOptions),
+                DrawnStack.ENDEC.listOf().fieldOf("stacks", ContainerAppearance::stacks),
+                ContainerAppearance::new
+        );
+    }
+}
@@ -4,49 +4,96 @@ import com.mojang.logging.LogUtils;
 import io.wispforest.accessories.api.AccessoriesCapability;
 import io.wispforest.accessories.api.AccessoriesContainer;
 import io.wispforest.accessories.client.AccessoriesMenu;
-import io.wispforest.accessories.endec.CodecUtils;
-import io.wispforest.accessories.endec.NbtMapCarrier;
-import io.wispforest.accessories.endec.RegistriesAttribute;
+import io.wispforest.accessories.client.SyncDataCache;
+import io.wispforest.accessories.client.gui.AccessoriesScreen;
+import io.wispforest.accessories.data.SlotTypeLoader;
+import io.wispforest.accessories.endec.MinecraftEndecs;
 import io.wispforest.accessories.impl.AccessoriesContainerImpl;
 import io.wispforest.accessories.networking.BaseAccessoriesPacket;
+import io.wispforest.accessories.networking.base.CoalescingPacketPayload;
 import io.wispforest.endec.Endec;
-import io.wispforest.endec.SerializationContext;
 import io.wispforest.endec.impl.StructEndecBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.*;
 
 /**
  * Catch all packet for handling syncing of containers and accessories within the main container
- * and cosmetic variant with the ability for it to be sync separately
+ * and cosmetic variant with the ability for it to be sync separately.
+ * <p>
+ * Containers are only sent as a delta from the last synced state with slots referenced by the network
+ * ids found within {@link SlotTypeLoader#getSlotIds(boolean)}.
  */
-public record SyncContainerData(int entityId, Map<String, NbtMapCarrier> updatedContainers, Map<String, ItemStack> dirtyStacks, Map<String, ItemStack> dirtyCosmeticStacks) implements BaseAccessoriesPacket {
+public record SyncContainerData(int entityId, List<ContainerDelta> containerDeltas, List<DirtyStack> dirtyStacks, List<DirtyStack> dirtyCosmeticStacks) implements BaseAccessoriesPacket, CoalescingPacketPayload<SyncContainerData> {
 
     public static Endec<SyncContainerData> ENDEC = StructEndecBuilder.of(
             Endec.VAR_INT.fieldOf("entityId", SyncContainerData::entityId),
-            NbtMapCarrier.ENDEC.mapOf().fieldOf("updatedContainers", SyncContainerData::updatedContainers),
-            CodecUtils.toEndec(ItemStack.OPTIONAL_CODEC).mapOf().fieldOf("dirtyStacks", SyncContainerData::dirtyStacks),
-            CodecUtils.toEndec(ItemStack.OPTIONAL_CODEC).mapOf().fieldOf("dirtyCosmeticStacks", SyncContainerData::dirtyCosmeticStacks),
+            ContainerDelta.ENDEC.listOf().fieldOf("containerDeltas", SyncContainerData::containerDeltas),
+            DirtyStack.ENDEC.listOf().fieldOf("dirtyStacks", SyncContainerData::dirtyStacks),
+            DirtyStack.ENDEC.listOf().fieldOf("dirtyCosmeticStacks", SyncContainerData::dirtyCosmeticStacks),
             SyncContainerData::new
     );
 
-    public static SyncContainerData of(LivingEntity livingEntity, Collection<AccessoriesContainer> updatedContainers, Map<String, ItemStack> dirtyStacks, Map<String, ItemStack> dirtyCosmeticStacks){
-        var updatedContainerTags = new HashMap<String, NbtMapCarrier>();
+    public static SyncContainerData of(LivingEntity livingEntity, Collection<AccessoriesContainer> updatedContainers, List<DirtyStack> dirtyStacks, List<DirtyStack> dirtyCosmeticStacks){
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(false);
 
-        for (AccessoriesContainer updatedContainer : updatedContainers) {
-            var syncCarrier = NbtMapCarrier.of();
+        var containerDeltas = new ArrayList<ContainerDelta>();
 
-            ((AccessoriesContainerImpl) updatedContainer).write(syncCarrier, SerializationContext.attributes(RegistriesAttribute.of(livingEntity.registryAccess())), true);
+        for (var updatedContainer : updatedContainers) {
+            var slotId = slotIds.getId(updatedContainer.getSlotName());
 
-            updatedContainerTags.put(updatedContainer.getSlotName(), syncCarrier);
+            if (slotId == -1) continue;
+
+            var delta = ((AccessoriesContainerImpl) updatedContainer).createSyncDelta(slotId);
+
+            if (delta != null) containerDeltas.add(delta);
+        }
+
+        return new SyncContainerData(livingEntity.getId(), containerDeltas, dirtyStacks, dirtyCosmeticStacks);
+    }
+
+    public boolean isEmpty() {
+        return this.containerDeltas.isEmpty() && this.dirtyStacks.isEmpty() && this.dirtyCosmeticStacks.isEmpty();
+    }
+
+    public boolean hasResizedContainers() {
+        for (var delta : this.containerDeltas) {
+            if (delta.resize() != null) return true;
         }
 
-        return new SyncContainerData(livingEntity.getId(), updatedContainerTags, dirtyStacks, dirtyCosmeticStacks);
+        return false;
+    }
+
+    @Override
+    public SyncContainerData coalesce(SyncContainerData next) {
+        // Deltas and stacks are applied in order on the client meaning later entries will override earlier ones
+        return new SyncContainerData(
+                this.entityId,
+                concat(this.containerDeltas, next.containerDeltas),
+                concat(this.dirtyStacks, next.dirtyStacks),
+                concat(this.dirtyCosmeticStacks, next.dirtyCosmeticStacks)
+        );
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        if (first.isEmpty()) return second;
+        if (second.isEmpty()) return first;
+
+        var list = new ArrayList<T>(first.size() + second.size());
+
+        list.addAll(first);
+        list.addAll(second);
+
+        return list;
     }
 
     private static final Logger LOGGER = LogUtils.getLogger();
@@ -54,6 +101,9 @@ public record SyncContainerData(int entityId, Map<String, NbtMapCarrier> updated
     @Environment(EnvType.CLIENT)
     @Override
     public void handle(Player player) {
+        // Slots are referenced by ids only known once the definitions have been received
+        if (SyncDataCache.deferIfAwaiting(this)) return;
+
         var level = player.level();
 
         var entity = level.getEntity(entityId);
@@ -74,26 +124,28 @@ public record SyncContainerData(int entityId, Map<String, NbtMapCarrier> updated
             return;
         }
 
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(true);
         var containers = capability.getContainers();
 
         var aContainerHasResized = false;
 
         //--
 
-        Set<String> invalidSyncedContainers = new HashSet<>();
+        Set<Integer> invalidSyncedContainers = new HashSet<>();
 
-        for (var entry : this.updatedContainers.entrySet()) {
-            if (!containers.containsKey(entry.getKey())) {
-                invalidSyncedContainers.add(entry.getKey());
+        for (var delta : this.containerDeltas) {
+            var slotName = slotIds.getName(delta.slotId());
+            var container = (slotName != null) ? containers.get(slotName) : null;
+
+            if (container == null) {
+                invalidSyncedContainers.add(delta.slotId());
 
                 continue;
             }
 
-            var container = containers.get(entry.getKey());
-
-            ((AccessoriesContainerImpl) container).read(entry.getValue(), SerializationContext.attributes(RegistriesAttribute.of(player.level().registryAccess())), true);
+            ((AccessoriesContainerImpl) container).applySyncDelta(delta);
 
-            if (container.getAccessories().wasNewlyConstructed()) aContainerHasResized = true;
+            if (delta.resize() != null) aContainerHasResized = true;
         }
 
         if(!invalidSyncedContainers.isEmpty()) {
@@ -102,61 +154,102 @@ public record SyncContainerData(int entityId, Map<String, NbtMapCarrier> updated
 
         //--
 
-        Set<String> invalidDirtyStackContainers = new HashSet<>();
+        Set<Integer> invalidDirtyStackContainers = new HashSet<>();
 
-        for (var entry : dirtyStacks.entrySet()) {
-            var parts = entry.getKey().split("/");
+        for (var dirtyStack : dirtyStacks) {
+            var slotName = slotIds.getName(dirtyStack.slotId());
+            var container = (slotName != null) ? containers.get(slotName) : null;
 
-            var slot = parts[0];
-
-            if(!containers.containsKey(slot)) {
-                invalidDirtyStackContainers.add(slot);
+            if (container == null) {
+                invalidDirtyStackContainers.add(dirtyStack.slotId());
 
                 continue;
             }
 
-            var container = containers.get(slot);
+            var accessories = container.getAccessories();
 
-            try {
-                container.getAccessories().setItem(Integer.parseInt(parts[1]), entry.getValue());
-            } catch (NumberFormatException ignored){}
+            if (dirtyStack.index() < accessories.getContainerSize()) accessories.setItem(dirtyStack.index(), dirtyStack.stack());
         }
 
         if(!invalidDirtyStackContainers.isEmpty()) {
-            LOGGER.warn("Unable to sync dirty stack data for the following containers: {}", invalidSyncedContainers);
+            LOGGER.warn("Unable to sync dirty stack data for the following containers: {}", invalidDirtyStackContainers);
         }
 
         //--
 
-        Set<String> invalidDirtyCosmeticContainers = new HashSet<>();
-
-        for (var entry : dirtyCosmeticStacks.entrySet()) {
-            var parts = entry.getKey().split("/");
+        Set<Integer> invalidDirtyCosmeticContainers = new HashSet<>();
 
-            var slot = parts[0];
+        for (var dirtyStack : dirtyCosmeticStacks) {
+            var slotName = slotIds.getName(dirtyStack.slotId());
+            var container = (slotName != null) ? containers.get(slotName) : null;
 
-            if(!containers.containsKey(slot)) {
-                invalidDirtyCosmeticContainers.add(slot);
+            if (container == null) {
+                invalidDirtyCosmeticContainers.add(dirtyStack.slotId());
 
                 continue;
             }
 
-            var container = containers.get(slot);
+            var cosmetics = container.getCosmeticAccessories();
 
-            try {
-                container.getCosmeticAccessories().setItem(Integer.parseInt(parts[1]), entry.getValue());
-            } catch (NumberFormatException ignored){}
+            if (dirtyStack.index() < cosmetics.getContainerSize()) cosmetics.setItem(dirtyStack.index(), dirtyStack.stack());
         }
 
         if(!invalidDirtyCosmeticContainers.isEmpty()) {
-            LOGGER.warn("Unable to sync dirty stack data for the following containers: {}", invalidSyncedContainers);
+            LOGGER.warn("Unable to sync dirty stack data for the following containers: {}", invalidDirtyCosmeticContainers);
         }
 
         //--
 
-        if(player.containerMenu instanceof AccessoriesMenu menu && aContainerHasResized) {
-            menu.reopenMenu();
-            //AccessoriesClient.attemptToOpenScreen();
+        // Only the accessory slots are rebuilt as the server has already done the same for its menu
+        if(player.containerMenu instanceof AccessoriesMenu menu && aContainerHasResized && menu.accessoryTarget() == livingEntity) {
+            menu.rebuildAccessorySlots();
+
+            if(Minecraft.getInstance().screen instanceof AccessoriesScreen accessoriesScreen) {
+                accessoriesScreen.init(Minecraft.getInstance(), accessoriesScreen.width, accessoriesScreen.height);
+            }
+        }
+    }
+
+    /**
+     * Stack change for a given slot referenced by its network id and index
+     */
+    public record DirtyStack(int slotId, int index, ItemStack stack) {
+        public static final Endec<DirtyStack> ENDEC = StructEndecBuilder.of(
+                Endec.VAR_INT.fieldOf("slotId", DirtyStack::slotId),
+                Endec.VAR_INT.fieldOf("index", DirtyStack::index),
+                MinecraftEndecs.OPTIONAL_ITEM_STACK.fieldOf("stack", DirtyStack::stack),
+                DirtyStack::new
+        );
+    }
+
+    /**
+     * Full stack contents of a container that has been resized since the last sync
+     */
+    public record ContainerResize(int currentSize, List<ItemStack> accessories, List<ItemStack> cosmetics) {
+        public static final Endec<ContainerResize> ENDEC = StructEndecBuilder.of(
+                Endec.VAR_INT.fieldOf("currentSize", ContainerResize::currentSize),
+                MinecraftEndecs.OPTIONAL_ITEM_STACK.listOf().fieldOf("accessories", ContainerResize::accessories),
+                MinecraftEndecs.OPTIONAL_ITEM_STACK.listOf().fieldOf("cosmetics", ContainerResize::cosmetics),
+                ContainerResize::new
+        );
+    }
+
+    /**
+     * Changes to a given container since the last sync with any unchanged property being null or empty
+     */
+    public record ContainerDelta(int slotId, @Nullable Integer baseSize, @Nullable ContainerResize resize, @Nullable List<Boolean> renderOptions, List<AttributeModifier> addedModifiers, List<ResourceLocation> removedModifiers) {
+        public static final Endec<ContainerDelta> ENDEC = StructEndecBuilder.of(
+                Endec.VAR_INT.fieldOf("slotId", ContainerDelta::slotId),
+                Endec.VAR_INT.nullableOf().fieldOf("baseSize", ContainerDelta::baseSize),
+                ContainerResize.ENDEC.nullableOf().fieldOf("resize", ContainerDelta::resize),
+                Endec.BOOLEAN.listOf().nullableOf().fieldOf("renderOptions", ContainerDelta::renderOptions),
+                MinecraftEndecs.ATTRIBUTE_MODIFIER.listOf().fieldOf("addedModifiers", ContainerDelta::addedModifiers),
+                MinecraftEndecs.IDENTIFIER.listOf().fieldOf("removedModifiers", ContainerDelta::removedModifiers),
+                ContainerDelta::new
+        );
+
+        public boolean isEmpty() {
+            return this.baseSize == null && this.resize == null && this.renderOptions == null && this.addedModifiers.isEmpty() && this.removedModifiers.isEmpty();
         }
     }
 }
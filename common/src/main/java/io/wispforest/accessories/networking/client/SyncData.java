@@ -1,30 +1,45 @@
 package io.wispforest.accessories.networking.client;
 
+import com.google.common.hash.Hashing;
+import io.netty.buffer.Unpooled;
 import io.wispforest.accessories.api.slot.ExtraSlotTypeProperties;
 import io.wispforest.accessories.api.slot.SlotGroup;
 import io.wispforest.accessories.api.slot.SlotType;
 import io.wispforest.accessories.api.slot.UniqueSlotHandling;
+import io.wispforest.accessories.client.SyncDataCache;
 import io.wispforest.accessories.data.EntitySlotLoader;
 import io.wispforest.accessories.data.SlotGroupLoader;
+import io.wispforest.accessories.data.SlotIdLookup;
 import io.wispforest.accessories.data.SlotTypeLoader;
 import io.wispforest.accessories.endec.MinecraftEndecs;
+import io.wispforest.accessories.endec.RegistriesAttribute;
 import io.wispforest.accessories.impl.SlotGroupImpl;
 import io.wispforest.accessories.impl.SlotTypeImpl;
 import io.wispforest.accessories.networking.BaseAccessoriesPacket;
 import io.wispforest.endec.Endec;
+import io.wispforest.endec.SerializationContext;
+import io.wispforest.endec.format.bytebuf.ByteBufSerializer;
 import io.wispforest.endec.impl.StructEndecBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
-public record SyncData(List<SlotType> slotTypes, Map<EntityType<?>, Set<String>> entitySlots, Set<SlotGroup> slotGroups, Set<String> uniqueGroups, Map<String, ExtraSlotTypeProperties> uniqueExtraProperties) implements BaseAccessoriesPacket {
+/**
+ * Packet containing all slot, group and entity binding definitions required by the client. Identified by a hash of its
+ * contents allowing for the client to reuse the definitions it has already received using {@link SyncDataHash}.
+ */
+public record SyncData(long hash, List<SlotType> slotTypes, Map<EntityType<?>, Set<String>> entitySlots, Set<SlotGroup> slotGroups, Set<String> uniqueGroups, Map<String, ExtraSlotTypeProperties> uniqueExtraProperties) implements BaseAccessoriesPacket {
 
     public static Endec<SyncData> ENDEC = StructEndecBuilder.of(
+            Endec.LONG.fieldOf("hash", SyncData::hash),
             SlotTypeImpl.ENDEC.listOf().fieldOf("slotTypes", SyncData::slotTypes),
             Endec.map(MinecraftEndecs.ofRegistry(Registries.ENTITY_TYPE), Endec.STRING.setOf()).fieldOf("entitySlots", SyncData::entitySlots),
             SlotGroupImpl.ENDEC.setOf().fieldOf("slotGroups", SyncData::slotGroups),
@@ -33,34 +48,92 @@ public record SyncData(List<SlotType> slotTypes, Map<EntityType<?>, Set<String>>
             SyncData::new
     );
 
+    @Nullable private static SyncData current = null;
+    @Nullable private static SlotIdLookup currentSlotIds = null;
+
+    /**
+     * @return The hash of the last created definitions or empty if none have been created
+     */
+    public static OptionalLong currentHash() {
+        return current != null ? OptionalLong.of(current.hash()) : OptionalLong.empty();
+    }
+
+    /**
+     * @return The current definitions which are only recreated after the slots have been reloaded
+     */
+    public static SyncData current(RegistryAccess registryAccess) {
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(false);
+
+        if (current == null || currentSlotIds != slotIds) {
+            var data = create();
+
+            current = data.withHash(hashOf(data, registryAccess));
+            currentSlotIds = slotIds;
+        }
+
+        return current;
+    }
+
+    private static long hashOf(SyncData data, RegistryAccess registryAccess) {
+        var buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+
+        ENDEC.encode(SerializationContext.attributes(RegistriesAttribute.of(registryAccess)), ByteBufSerializer.of(buf), data);
+
+        return Hashing.murmur3_128().hashBytes(buf.nioBuffer()).asLong();
+    }
+
+    private SyncData withHash(long hash) {
+        return new SyncData(hash, this.slotTypes, this.entitySlots, this.slotGroups, this.uniqueGroups, this.uniqueExtraProperties);
+    }
+
     public static SyncData create(){
         var allSlotTypes = SlotTypeLoader.INSTANCE.getSlotTypes(false);
 
         var entitySlotData = EntitySlotLoader.INSTANCE.getEntitySlotData(false);
 
-        var entitySlots = new HashMap<EntityType<?>, Set<String>>();
+        // Everything is sorted so that the hash of the same definitions does not change between server restarts
+        var entitySlots = new LinkedHashMap<EntityType<?>, Set<String>>();
 
-        for (var entry : entitySlotData.entrySet()) {
-            entitySlots.put(entry.getKey(), entry.getValue().keySet());
-        }
+        entitySlotData.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> EntityType.getKey(entry.getKey())))
+                .forEach(entry -> entitySlots.put(entry.getKey(), new TreeSet<>(entry.getValue().keySet())));
 
-        var slotGroups = new HashSet<SlotGroup>();
+        var slotGroups = new LinkedHashSet<SlotGroup>();
 
-        slotGroups.addAll(SlotGroupLoader.INSTANCE.getGroups(false, false));
+        SlotGroupLoader.INSTANCE.getGroups(false, false).stream()
+                .sorted(Comparator.comparing(SlotGroup::name))
+                .forEach(slotGroups::add);
 
-        return new SyncData(List.copyOf(allSlotTypes.values()), entitySlots, slotGroups, UniqueSlotHandling.getGroups(false), ExtraSlotTypeProperties.getProperties(false));
+        // Sent in the order of the network ids so the client can rebuild the same id mapping
+        var orderedSlotTypes = SlotTypeLoader.INSTANCE.getSlotIds(false).names().stream()
+                .map(allSlotTypes::get)
+                .toList();
+
+        return new SyncData(0, orderedSlotTypes, entitySlots, slotGroups, new TreeSet<>(UniqueSlotHandling.getGroups(false)), new TreeMap<>(ExtraSlotTypeProperties.getProperties(false)));
     }
 
     @Environment(EnvType.CLIENT)
     @Override
     public void handle(Player player) {
+        this.apply();
+
+        SyncDataCache.onReceived(this, player);
+    }
+
+    /**
+     * Replaces the client definitions with the definitions held within this packet
+     */
+    @Environment(EnvType.CLIENT)
+    public void apply() {
         Map<String, SlotType> slotTypes = new HashMap<>();
+        List<String> slotIds = new ArrayList<>();
 
         for (SlotType slotType : this.slotTypes()) {
             slotTypes.put(slotType.name(), slotType);
+            slotIds.add(slotType.name());
         }
 
-        SlotTypeLoader.INSTANCE.setSlotType(slotTypes);
+        SlotTypeLoader.INSTANCE.setSlotType(slotTypes, slotIds);
 
         UniqueSlotHandling.buildClientSlotReferences();
 
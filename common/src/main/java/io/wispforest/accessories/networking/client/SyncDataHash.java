@@ -0,0 +1,27 @@
+package io.wispforest.accessories.networking.client;
+
+import io.wispforest.accessories.client.SyncDataCache;
+import io.wispforest.accessories.networking.BaseAccessoriesPacket;
+import io.wispforest.endec.Endec;
+import io.wispforest.endec.impl.StructEndecBuilder;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Packet advertising the hash of the current {@link SyncData} with the client either reusing the definitions it has
+ * cached for the given hash or requesting them from the server.
+ */
+public record SyncDataHash(long hash) implements BaseAccessoriesPacket {
+
+    public static final Endec<SyncDataHash> ENDEC = StructEndecBuilder.of(
+            Endec.LONG.fieldOf("hash", SyncDataHash::hash),
+            SyncDataHash::new
+    );
+
+    @Environment(EnvType.CLIENT)
+    @Override
+    public void handle(Player player) {
+        SyncDataCache.onHashReceived(this.hash);
+    }
+}
@@ -0,0 +1,55 @@
+package io.wispforest.accessories.networking.client;
+
+import com.mojang.logging.LogUtils;
+import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.client.SyncDataCache;
+import io.wispforest.accessories.impl.AccessoriesHolderImpl;
+import io.wispforest.accessories.networking.BaseAccessoriesPacket;
+import io.wispforest.endec.Endec;
+import io.wispforest.endec.impl.StructEndecBuilder;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import org.slf4j.Logger;
+
+/**
+ * Compact replacement for {@link SyncEntireContainer} and {@link SyncAppearance} sent when a given entities holder is empty,
+ * with the client deriving the default state of each container from the slots bound to the entity.
+ */
+public record SyncEmptyHolder(int entityId) implements BaseAccessoriesPacket {
+
+    public static final Endec<SyncEmptyHolder> ENDEC = StructEndecBuilder.of(
+            Endec.VAR_INT.fieldOf("entityId", SyncEmptyHolder::entityId),
+            SyncEmptyHolder::new
+    );
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    @Environment(EnvType.CLIENT)
+    @Override
+    public void handle(Player player) {
+        // Slots bound to the entity are only known once the definitions have been received
+        if (SyncDataCache.deferIfAwaiting(this)) return;
+
+        var entity = player.level().getEntity(entityId);
+
+        if(entity == null) {
+            LOGGER.error("Unable to Sync Empty Holder for a given Entity as it is null on the Client! [EntityId: {}]", entityId);
+
+            return;
+        }
+
+        if(!(entity instanceof LivingEntity livingEntity)) return;
+
+        var capability = AccessoriesCapability.get(livingEntity);
+
+        if(capability == null) {
+            LOGGER.error("Unable to Sync Empty Holder for a given Entity as its Capability is null on the Client! [EntityId: {}]", entityId);
+
+            return;
+        }
+
+        ((AccessoriesHolderImpl) capability.getHolder()).applyDefaultState(capability);
+    }
+}
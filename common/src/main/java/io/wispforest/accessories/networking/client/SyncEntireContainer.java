@@ -2,32 +2,85 @@ package io.wispforest.accessories.networking.client;
 
 import com.mojang.logging.LogUtils;
 import io.wispforest.accessories.api.AccessoriesCapability;
-import io.wispforest.accessories.endec.NbtMapCarrier;
-import io.wispforest.accessories.endec.RegistriesAttribute;
+import io.wispforest.accessories.client.SyncDataCache;
+import io.wispforest.accessories.data.SlotTypeLoader;
+import io.wispforest.accessories.endec.MinecraftEndecs;
+import io.wispforest.accessories.impl.AccessoriesContainerImpl;
 import io.wispforest.accessories.impl.AccessoriesHolderImpl;
+import io.wispforest.accessories.impl.PlayerEquipControl;
 import io.wispforest.accessories.networking.BaseAccessoriesPacket;
 import io.wispforest.endec.Endec;
-import io.wispforest.endec.SerializationContext;
 import io.wispforest.endec.impl.StructEndecBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
-public record SyncEntireContainer(int entityId, NbtMapCarrier containerMap) implements BaseAccessoriesPacket {
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet containing the full state of a given entities {@link AccessoriesHolderImpl} used when an entity is loaded, starts
+ * being tracked or the slot data has been reloaded. Slots are referenced by the network ids found within {@link SlotTypeLoader#getSlotIds(boolean)}.
+ */
+public record SyncEntireContainer(int entityId, boolean cosmeticsShown, boolean linesShown, PlayerEquipControl equipControl, List<ContainerState> containers) implements BaseAccessoriesPacket {
 
     public static final Endec<SyncEntireContainer> ENDEC = StructEndecBuilder.of(
             Endec.VAR_INT.fieldOf("entityId", SyncEntireContainer::entityId),
-            NbtMapCarrier.ENDEC.fieldOf("containerTag", SyncEntireContainer::containerMap),
+            Endec.BOOLEAN.fieldOf("cosmeticsShown", SyncEntireContainer::cosmeticsShown),
+            Endec.BOOLEAN.fieldOf("linesShown", SyncEntireContainer::linesShown),
+            Endec.forEnum(PlayerEquipControl.class).fieldOf("equipControl", SyncEntireContainer::equipControl),
+            ContainerState.ENDEC.listOf().fieldOf("containers", SyncEntireContainer::containers),
             SyncEntireContainer::new
     );
 
+    @Nullable
+    public static SyncEntireContainer of(LivingEntity livingEntity) {
+        if (livingEntity.isRemoved()) return null;
+
+        var capability = AccessoriesCapability.get(livingEntity);
+
+        return (capability != null) ? of(capability) : null;
+    }
+
+    public static SyncEntireContainer of(AccessoriesCapability capability) {
+        return ((AccessoriesHolderImpl) capability.getHolder()).getSyncSnapshot(capability);
+    }
+
+    /**
+     * Creates a new packet from the current state of the given capability, use {@link #of(AccessoriesCapability)} to
+     * reuse the state shared between all players syncing the given entity.
+     */
+    public static SyncEntireContainer create(AccessoriesCapability capability) {
+        var slotIds = SlotTypeLoader.INSTANCE.getSlotIds(false);
+
+        var holder = capability.getHolder();
+
+        var containers = new ArrayList<ContainerState>();
+
+        for (var container : capability.getContainers().values()) {
+            var slotId = slotIds.getId(container.getSlotName());
+
+            if (slotId == -1) continue;
+
+            containers.add(((AccessoriesContainerImpl) container).createSyncState(slotId));
+        }
+
+        return new SyncEntireContainer(capability.entity().getId(), holder.cosmeticsShown(), holder.linesShown(), holder.equipControl(), containers);
+    }
+
     private static final Logger LOGGER = LogUtils.getLogger();
 
     @Environment(EnvType.CLIENT)
     @Override
     public void handle(Player player) {
+        // Slots are referenced by ids only known once the definitions have been received
+        if (SyncDataCache.deferIfAwaiting(this)) return;
+
         var level = player.level();
         var entity = level.getEntity(entityId);
 
@@ -47,14 +100,22 @@ public record SyncEntireContainer(int entityId, NbtMapCarrier containerMap) impl
             return;
         }
 
-        var holder = ((AccessoriesHolderImpl) capability.getHolder());
-
-//        if(entity instanceof Player) {
-//            LOGGER.info("[SyncEntireContainer] Container data has been received on the client!");
-//            LOGGER.info("[SyncEntireContainer] {}", containerMap);
-//        }
+        ((AccessoriesHolderImpl) capability.getHolder()).applySyncState(capability, this);
+    }
 
-        holder.read(containerMap, SerializationContext.attributes(RegistriesAttribute.of(level.registryAccess())));
-        holder.init(capability);
+    /**
+     * Complete state of a given container as required by the client
+     */
+    public record ContainerState(int slotId, @Nullable Integer baseSize, int currentSize, List<Boolean> renderOptions, List<AttributeModifier> modifiers, List<ItemStack> accessories, List<ItemStack> cosmetics) {
+        public static final Endec<ContainerState> ENDEC = StructEndecBuilder.of(
+                Endec.VAR_INT.fieldOf("slotId", ContainerState::slotId),
+                Endec.VAR_INT.nullableOf().fieldOf("baseSize", ContainerState::baseSize),
+                Endec.VAR_INT.fieldOf("currentSize", ContainerState::currentSize),
+                Endec.BOOLEAN.listOf().fieldOf("renderOptions", ContainerState::renderOptions),
+                MinecraftEndecs.ATTRIBUTE_MODIFIER.listOf().fieldOf("modifiers", ContainerState::modifiers),
+                MinecraftEndecs.OPTIONAL_ITEM_STACK.listOf().fieldOf("accessories", ContainerState::accessories),
+                MinecraftEndecs.OPTIONAL_ITEM_STACK.listOf().fieldOf("cosmetics", ContainerState::cosmetics),
+                ContainerState::new
+        );
     }
 }
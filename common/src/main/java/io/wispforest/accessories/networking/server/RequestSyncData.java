@@ -0,0 +1,31 @@
+package io.wispforest.accessories.networking.server;
+
+import io.wispforest.accessories.AccessoriesInternals;
+import io.wispforest.accessories.impl.AccessoriesMetrics;
+import io.wispforest.accessories.networking.BaseAccessoriesPacket;
+import io.wispforest.accessories.networking.client.SyncData;
+import io.wispforest.endec.Endec;
+import io.wispforest.endec.impl.StructEndecBuilder;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Sent by the client when it does not have the {@link SyncData} for the advertised hash cached
+ */
+public record RequestSyncData(long hash) implements BaseAccessoriesPacket {
+
+    public static final Endec<RequestSyncData> ENDEC = StructEndecBuilder.of(
+            Endec.LONG.fieldOf("hash", RequestSyncData::hash),
+            RequestSyncData::new
+    );
+
+    @Override
+    public void handle(Player player) {
+        if (!(player instanceof ServerPlayer serverPlayer)) return;
+
+        AccessoriesMetrics.SYNC_DATA_REQUESTS.increment();
+
+        // The current definitions are always sent as the slots may have been reloaded since the hash was advertised
+        AccessoriesInternals.getNetworkHandler().sendToPlayer(serverPlayer, SyncData.current(serverPlayer.server.registryAccess()));
+    }
+}
@@ -0,0 +1,11 @@
+package io.wispforest.accessories.pond;
+
+import io.wispforest.accessories.impl.AttributeModifierCache;
+import org.jetbrains.annotations.Nullable;
+
+public interface CachedAttributesExtension {
+    @Nullable
+    AttributeModifierCache accessories$getAttributeCache();
+
+    void accessories$setAttributeCache(@Nullable AttributeModifierCache cache);
+}
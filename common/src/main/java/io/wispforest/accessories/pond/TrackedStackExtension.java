@@ -0,0 +1,11 @@
+package io.wispforest.accessories.pond;
+
+import io.wispforest.accessories.impl.ExpandedSimpleContainer;
+import org.jetbrains.annotations.Nullable;
+
+public interface TrackedStackExtension {
+    void accessories$setOwningContainer(@Nullable ExpandedSimpleContainer container, int slot);
+
+    @Nullable
+    ExpandedSimpleContainer accessories$getOwningContainer();
+}
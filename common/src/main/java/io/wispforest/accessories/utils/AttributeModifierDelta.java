@@ -0,0 +1,108 @@
+package io.wispforest.accessories.utils;
+
+import io.wispforest.accessories.api.attributes.AccessoryAttributeBuilder;
+import net.minecraft.core.Holder;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Accumulates the net attribute modifier changes between the previous and current stacks of any number of slots,
+ * allowing for only the modifiers that actually differ to be removed or added to the entity.
+ * <p>
+ * Modifiers are stored within parallel lists as the amount of modifiers from a given stack is small enough that a
+ * linear comparison is faster than building any map based structure.
+ */
+@ApiStatus.Internal
+public final class AttributeModifierDelta {
+
+    private final List<Holder<Attribute>> removedAttributes = new ArrayList<>();
+    private final List<AttributeModifier> removedModifiers = new ArrayList<>();
+
+    private final List<Holder<Attribute>> addedAttributes = new ArrayList<>();
+    private final List<AttributeModifier> addedModifiers = new ArrayList<>();
+
+    // Scratch lists reused for every change
+    private final List<Holder<Attribute>> previousAttributes = new ArrayList<>();
+    private final List<AttributeModifier> previousModifiers = new ArrayList<>();
+
+    private final List<Holder<Attribute>> currentAttributes = new ArrayList<>();
+    private final List<AttributeModifier> currentModifiers = new ArrayList<>();
+
+    private final BiConsumer<Holder<Attribute>, AttributeModifier> previousCollector = (attribute, modifier) -> {
+        this.previousAttributes.add(attribute);
+        this.previousModifiers.add(modifier);
+    };
+
+    private final BiConsumer<Holder<Attribute>, AttributeModifier> currentCollector = (attribute, modifier) -> {
+        this.currentAttributes.add(attribute);
+        this.currentModifiers.add(modifier);
+    };
+
+    /**
+     * Adds the difference between the modifiers of the previous and current stack for a given slot
+     */
+    public void addChange(AccessoryAttributeBuilder previous, AccessoryAttributeBuilder current) {
+        if (previous.isEmpty() && current.isEmpty()) return;
+
+        previous.forEachModifier(this.previousCollector);
+        current.forEachModifier(this.currentCollector);
+
+        for (int i = 0; i < this.previousModifiers.size(); i++) {
+            var attribute = this.previousAttributes.get(i);
+            var modifier = this.previousModifiers.get(i);
+
+            if (!contains(this.currentAttributes, this.currentModifiers, attribute, modifier)) {
+                this.removedAttributes.add(attribute);
+                this.removedModifiers.add(modifier);
+            }
+        }
+
+        for (int i = 0; i < this.currentModifiers.size(); i++) {
+            var attribute = this.currentAttributes.get(i);
+            var modifier = this.currentModifiers.get(i);
+
+            if (!contains(this.previousAttributes, this.previousModifiers, attribute, modifier)) {
+                this.addedAttributes.add(attribute);
+                this.addedModifiers.add(modifier);
+            }
+        }
+
+        this.previousAttributes.clear();
+        this.previousModifiers.clear();
+        this.currentAttributes.clear();
+        this.currentModifiers.clear();
+    }
+
+    private static boolean contains(List<Holder<Attribute>> attributes, List<AttributeModifier> modifiers, Holder<Attribute> attribute, AttributeModifier modifier) {
+        for (int i = 0; i < modifiers.size(); i++) {
+            if (attributes.get(i).equals(attribute) && modifiers.get(i).equals(modifier)) return true;
+        }
+
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return this.removedModifiers.isEmpty() && this.addedModifiers.isEmpty();
+    }
+
+    /**
+     * Applies all removals followed by all additions so that a modifier moved between slots is not lost
+     */
+    public void apply(LivingEntity livingEntity) {
+        if (this.isEmpty()) return;
+
+        for (int i = 0; i < this.removedModifiers.size(); i++) {
+            AttributeUtils.removeTransientAttributeModifier(livingEntity, this.removedAttributes.get(i), this.removedModifiers.get(i));
+        }
+
+        for (int i = 0; i < this.addedModifiers.size(); i++) {
+            AttributeUtils.addTransientAttributeModifier(livingEntity, this.addedAttributes.get(i), this.addedModifiers.get(i));
+        }
+    }
+}
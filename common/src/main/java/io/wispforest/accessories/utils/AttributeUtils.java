@@ -1,12 +1,17 @@
 package io.wispforest.accessories.utils;
 
 import com.mojang.logging.LogUtils;
+import io.wispforest.accessories.api.AccessoriesContainer;
 import io.wispforest.accessories.api.attributes.AccessoryAttributeBuilder;
+import io.wispforest.accessories.api.attributes.SlotAttribute;
 import io.wispforest.accessories.endec.MinecraftEndecs;
 import io.wispforest.endec.Endec;
 import io.wispforest.endec.StructEndec;
 import io.wispforest.endec.impl.StructEndecBuilder;
+import net.minecraft.core.Holder;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import org.slf4j.Logger;
 
@@ -16,59 +21,41 @@ public class AttributeUtils {
     public static void addTransientAttributeModifiers(LivingEntity livingEntity, AccessoryAttributeBuilder attributes) {
         if(attributes.isEmpty()) return;
 
-        var attributeMap = livingEntity.getAttributes();
-        var capability = livingEntity.accessoriesCapability();
-
-        var containers = capability.getContainers();
-
-        attributes.getSlotModifiers().asMap().forEach((s, modifiers) -> {
-            var container = containers.get(s);
-
-            if(container == null) return;
-
-            modifiers.stream()
-                    .filter(modifier -> !container.hasModifier(modifier.id()))
-                    .forEach(container::addTransientModifier);
-        });
-
-        attributes.getAttributeModifiers(true).asMap().forEach((holder, modifiers) -> {
-            var instance = attributeMap.getInstance(holder);
-
-            if(instance == null) return;
-
-            modifiers.stream()
-                    .filter(modifier -> !instance.hasModifier(modifier.id()))
-                    .forEach(instance::addTransientModifier);
-        });
+        attributes.forEachModifier((holder, modifier) -> addTransientAttributeModifier(livingEntity, holder, modifier));
     }
 
     public static void removeTransientAttributeModifiers(LivingEntity livingEntity, AccessoryAttributeBuilder attributes) {
         if(attributes.isEmpty()) return;
 
-        var attributeMap = livingEntity.getAttributes();
-        var capability = livingEntity.accessoriesCapability();
-
-        var containers = capability.getContainers();
+        attributes.forEachModifier((holder, modifier) -> removeTransientAttributeModifier(livingEntity, holder, modifier));
+    }
 
-        attributes.getSlotModifiers().asMap().forEach((s, modifiers) -> {
-            var container = containers.get(s);
+    /**
+     * Adds the given modifier to the matching {@link AccessoriesContainer} if the attribute is a {@link SlotAttribute} or the
+     * entities {@link AttributeInstance} otherwise, if not already present
+     */
+    public static void addTransientAttributeModifier(LivingEntity livingEntity, Holder<Attribute> holder, AttributeModifier modifier) {
+        if(holder.value() instanceof SlotAttribute slotAttribute) {
+            var container = livingEntity.accessoriesCapability().getContainers().get(slotAttribute.slotName());
 
-            if(container == null) return;
+            if(container != null && !container.hasModifier(modifier.id())) container.addTransientModifier(modifier);
+        } else {
+            var instance = livingEntity.getAttributes().getInstance(holder);
 
-            modifiers.stream()
-                    .map(AttributeModifier::id)
-                    .forEach(container::removeModifier);
-        });
+            if(instance != null && !instance.hasModifier(modifier.id())) instance.addTransientModifier(modifier);
+        }
+    }
 
-        attributes.getAttributeModifiers(true).asMap().forEach((holder, modifiers) -> {
-            var instance = attributeMap.getInstance(holder);
+    public static void removeTransientAttributeModifier(LivingEntity livingEntity, Holder<Attribute> holder, AttributeModifier modifier) {
+        if(holder.value() instanceof SlotAttribute slotAttribute) {
+            var container = livingEntity.accessoriesCapability().getContainers().get(slotAttribute.slotName());
 
-            if(instance == null) return;
+            if(container != null) container.removeModifier(modifier.id());
+        } else {
+            var instance = livingEntity.getAttributes().getInstance(holder);
 
-            modifiers.stream()
-                    .map(AttributeModifier::id)
-                    .forEach(instance::removeModifier);
-        });
+            if(instance != null) instance.removeModifier(modifier.id());
+        }
     }
 
     public static final StructEndec<AttributeModifier> ATTRIBUTE_MODIFIER_ENDEC = StructEndecBuilder.of(
@@ -0,0 +1,75 @@
+package io.wispforest.accessories.benchmark;
+
+import io.wispforest.accessories.api.slot.SlotEntryReference;
+import io.wispforest.accessories.api.slot.SlotReference;
+import io.wispforest.accessories.impl.EquippedIndex;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookup of every equipped entry by rebuilding the {@link EquippedIndex} on every call, as was done before
+ * the index was shared, against the copied list returned by getAllEquipped and the shared view. The index is built from
+ * stacks outside of any container as no entity exists within the benchmark, with the stacks not requiring to be ticked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EquippedLookupBenchmark {
+
+    @Param({"8", "64"})
+    public int filledSlots;
+
+    private SlotReference[] references;
+    private ItemStack[] stacks;
+
+    private EquippedIndex index;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        this.references = new SlotReference[this.filledSlots];
+        this.stacks = new ItemStack[this.filledSlots];
+
+        for (int i = 0; i < this.filledSlots; i++) {
+            this.references[i] = SlotReference.of(null, "ring", i);
+            this.stacks[i] = new ItemStack(Items.GOLD_INGOT);
+        }
+
+        this.index = rebuildIndex();
+    }
+
+    @Benchmark
+    public List<SlotEntryReference> rebuilt() {
+        return rebuildIndex().entries();
+    }
+
+    @Benchmark
+    public List<SlotEntryReference> copied() {
+        return new ArrayList<>(this.index.entries());
+    }
+
+    @Benchmark
+    public List<SlotEntryReference> shared() {
+        return this.index.entries();
+    }
+
+    private EquippedIndex rebuildIndex() {
+        var builder = new EquippedIndex.Builder();
+
+        for (int i = 0; i < this.filledSlots; i++) builder.add(null, i, this.references[i], this.stacks[i]);
+
+        return builder.build(null, 0, 0);
+    }
+}
@@ -0,0 +1,111 @@
+package io.wispforest.accessories.benchmark;
+
+import io.netty.buffer.Unpooled;
+import io.wispforest.accessories.endec.CodecUtils;
+import io.wispforest.accessories.endec.RegistriesAttribute;
+import io.wispforest.endec.Endec;
+import io.wispforest.endec.SerializationContext;
+import io.wispforest.endec.format.bytebuf.ByteBufDeserializer;
+import io.wispforest.endec.format.bytebuf.ByteBufSerializer;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.ItemLore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a list of item stacks to a packet buffer and reading them back using the Codec to EDM interop, the
+ * length prefixed stream codec form and the stream codec writing directly into the packet buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemStackEndecBenchmark {
+
+    @Param({"1", "16", "64"})
+    public int stackCount;
+
+    private RegistryAccess registryAccess;
+
+    private List<ItemStack> stacks;
+
+    private Endec<List<ItemStack>> codecEndec;
+    private Endec<List<ItemStack>> streamEndec;
+
+    private StreamCodec<RegistryFriendlyByteBuf, List<ItemStack>> directCodec;
+
+    private RegistryFriendlyByteBuf buffer;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        this.registryAccess = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+
+        this.stacks = new ArrayList<>();
+
+        for (int i = 0; i < this.stackCount; i++) {
+            var stack = (i % 4 == 0) ? ItemStack.EMPTY : new ItemStack((i % 2 == 0) ? Items.DIAMOND_SWORD : Items.APPLE, 1 + (i % 16));
+
+            if (!stack.isEmpty()) {
+                stack.set(DataComponents.CUSTOM_NAME, Component.literal("Stack " + i));
+                stack.set(DataComponents.LORE, new ItemLore(List.of(Component.literal("First Line"), Component.literal("Second Line"))));
+                stack.set(DataComponents.REPAIR_COST, i);
+            }
+
+            this.stacks.add(stack);
+        }
+
+        this.codecEndec = CodecUtils.toEndec(ItemStack.OPTIONAL_CODEC).listOf();
+        this.streamEndec = CodecUtils.toEndecWithRegistries(ItemStack.OPTIONAL_CODEC, ItemStack.OPTIONAL_STREAM_CODEC).listOf();
+
+        this.directCodec = CodecUtils.packetCodec(this.streamEndec);
+
+        this.buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), this.registryAccess);
+    }
+
+    @Benchmark
+    public List<ItemStack> codecInterop() {
+        return roundTrip(this.codecEndec);
+    }
+
+    @Benchmark
+    public List<ItemStack> lengthPrefixedStreamCodec() {
+        return roundTrip(this.streamEndec);
+    }
+
+    @Benchmark
+    public List<ItemStack> directStreamCodec() {
+        this.buffer.clear();
+
+        this.directCodec.encode(this.buffer, this.stacks);
+
+        return this.directCodec.decode(this.buffer);
+    }
+
+    // Context without the packet buffer attribute meaning any stream codec falls back to the length prefixed form
+    private List<ItemStack> roundTrip(Endec<List<ItemStack>> endec) {
+        this.buffer.clear();
+
+        var ctx = SerializationContext.attributes(RegistriesAttribute.of(this.registryAccess));
+
+        endec.encode(ctx, ByteBufSerializer.of(this.buffer), this.stacks);
+
+        return endec.decode(ctx, ByteBufDeserializer.of(this.buffer));
+    }
+}
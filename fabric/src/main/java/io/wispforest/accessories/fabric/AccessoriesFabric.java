@@ -71,6 +71,9 @@ public class AccessoriesFabric implements ModInitializer {
         ServerLivingEntityEvents.AFTER_DEATH.register(AccessoriesEventHandler::onDeath);
 
         ServerTickEvents.START_WORLD_TICK.register(AccessoriesEventHandler::onWorldTick);
+        ServerTickEvents.END_SERVER_TICK.register(AccessoriesEventHandler::onServerTickEnd);
+
+        ServerLifecycleEvents.SERVER_STOPPING.register(AccessoriesEventHandler::onServerStopping);
 
         ServerLifecycleEvents.SYNC_DATA_PACK_CONTENTS.register((player, joined) -> {
             if(!joined) return;
@@ -87,11 +90,7 @@ public class AccessoriesFabric implements ModInitializer {
                 lookup.registerForType((entity, unused) -> {
                     if(!(entity instanceof LivingEntity livingEntity)) return null;
 
-                    var slots = EntitySlotLoader.getEntitySlots(livingEntity);
-
-                    if(slots.isEmpty()) return null;
-
-                    return new AccessoriesCapabilityImpl(livingEntity);
+                    return AccessoriesCapability.get(livingEntity);
                 }, entityType);
             }
         });
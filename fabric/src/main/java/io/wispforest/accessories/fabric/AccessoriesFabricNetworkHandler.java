@@ -1,7 +1,6 @@
 package io.wispforest.accessories.fabric;
 
 import io.wispforest.accessories.Accessories;
-import io.wispforest.accessories.endec.CodecUtils;
 import io.wispforest.accessories.networking.*;
 import io.wispforest.accessories.networking.base.BaseNetworkHandler;
 import io.wispforest.accessories.networking.base.HandledPacketPayload;
@@ -14,9 +13,13 @@ import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -42,13 +45,13 @@ public class AccessoriesFabricNetworkHandler extends BaseNetworkHandler {
     }
 
     protected <M extends HandledPacketPayload> void registerC2S(Class<M> messageType, Endec<M> endec) {
-        var type = PayloadTypeRegistry.playC2S().register(getId(messageType), CodecUtils.packetCodec(endec)).type();
+        var type = PayloadTypeRegistry.playC2S().register(getId(messageType), this.packetCodec(endec)).type();
 
         ServerPlayNetworking.registerGlobalReceiver(type, (packet, context) -> packet.handle(context.player()));
     }
 
     protected <M extends HandledPacketPayload> void registerS2CDeferred(Class<M> messageType, Endec<M> endec) {
-        PayloadTypeRegistry.playS2C().register(this.getId(messageType), CodecUtils.packetCodec(endec));
+        PayloadTypeRegistry.playS2C().register(this.getId(messageType), this.packetCodec(endec));
     }
 
     @Override
@@ -66,9 +69,23 @@ public class AccessoriesFabricNetworkHandler extends BaseNetworkHandler {
     public <M extends HandledPacketPayload> void sendToTrackingAndSelf(Entity entity, Supplier<M> packet) {
         if(entity.level().isClientSide) return;
 
-        for (var player : PlayerLookup.tracking(entity)) sendToPlayer(player, packet.get());
+        var players = new ArrayList<ServerPlayer>(PlayerLookup.tracking(entity));
 
-        if(entity instanceof ServerPlayer serverPlayer) sendToPlayer(serverPlayer, packet.get());
+        if(entity instanceof ServerPlayer serverPlayer) players.add(serverPlayer);
+
+        if(players.isEmpty()) return;
+
+        sendToPlayers(players, packet.get(), entity.registryAccess());
+    }
+
+    @Override
+    public Collection<ServerPlayer> getTrackingPlayers(Entity entity) {
+        return PlayerLookup.tracking(entity);
+    }
+
+    @Override
+    protected Packet<? super ClientGamePacketListener> toClientboundPacket(HandledPacketPayload packet) {
+        return ServerPlayNetworking.createS2CPacket(packet);
     }
 
     public interface RegistrationFunc {
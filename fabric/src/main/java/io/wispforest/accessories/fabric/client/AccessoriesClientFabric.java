@@ -2,9 +2,11 @@ package io.wispforest.accessories.fabric.client;
 
 import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import io.wispforest.accessories.Accessories;
+import io.wispforest.accessories.api.AccessoriesCapability;
 import io.wispforest.accessories.api.client.AccessoriesRendererRegistry;
 import io.wispforest.accessories.client.AccessoriesClient;
 import io.wispforest.accessories.client.AccessoriesRenderLayer;
+import io.wispforest.accessories.client.SyncDataCache;
 import io.wispforest.accessories.data.EntitySlotLoader;
 import io.wispforest.accessories.fabric.AccessoriesFabric;
 import io.wispforest.accessories.fabric.AccessoriesFabricNetworkHandler;
@@ -98,15 +100,13 @@ public class AccessoriesClientFabric implements ClientModInitializer {
                 lookup.registerForType((entity, unused) -> {
                     if(!(entity instanceof LivingEntity livingEntity)) return null;
 
-                    var slots = EntitySlotLoader.getEntitySlots(livingEntity);
-
-                    if(slots.isEmpty()) return null;
-
-                    return new AccessoriesCapabilityImpl(livingEntity);
+                    return AccessoriesCapability.get(livingEntity);
                 }, entityType);
             }
         });
 
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> SyncDataCache.reset());
+
         CoreShaderRegistrationCallback.EVENT.register(context -> context.register(Accessories.of("fish"), DefaultVertexFormat.BLIT_SCREEN, shaderInstance -> AccessoriesClient.BLIT_SHADER = shaderInstance));
     }
 }
@@ -24,6 +24,7 @@ public class Testccessories implements ModInitializer {
         PointedDripstoneAccessory.init();
         TntAccessory.init();
         RingIncreaserAccessory.init();
+        ChainedSlotAccessory.init();
 
         UniqueSlotHandling.EVENT.register(UniqueSlotTest.INSTANCE);
 
@@ -0,0 +1,36 @@
+package io.wispforest.testccessories.fabric.accessories;
+
+import io.wispforest.accessories.api.AccessoriesAPI;
+import io.wispforest.accessories.api.Accessory;
+import io.wispforest.accessories.api.slot.SlotReference;
+import io.wispforest.testccessories.fabric.Testccessories;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+/**
+ * Accessory shrinking the target slot by one when unequipped, used to chain slot size changes across containers
+ */
+public class ChainedSlotAccessory implements Accessory {
+
+    public static void init(){
+        AccessoriesAPI.registerAccessory(Items.GOLD_NUGGET, new ChainedSlotAccessory("hand"));
+        AccessoriesAPI.registerAccessory(Items.IRON_NUGGET, new ChainedSlotAccessory("hat"));
+        AccessoriesAPI.registerAccessory(Items.EMERALD, new ChainedSlotAccessory("ring"));
+    }
+
+    private final String targetSlot;
+
+    public ChainedSlotAccessory(String targetSlot) {
+        this.targetSlot = targetSlot;
+    }
+
+    @Override
+    public void onUnequip(ItemStack stack, SlotReference reference) {
+        var container = reference.capability().getContainers().get(this.targetSlot);
+
+        if (container == null) return;
+
+        container.addTransientModifier(new AttributeModifier(Testccessories.of("chained/" + reference.createSlotPath()), -1, AttributeModifier.Operation.ADD_VALUE));
+    }
+}
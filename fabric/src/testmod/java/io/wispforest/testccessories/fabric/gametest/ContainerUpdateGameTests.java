@@ -0,0 +1,161 @@
+package io.wispforest.testccessories.fabric.gametest;
+
+import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.api.AccessoriesContainer;
+import io.wispforest.accessories.impl.AccessoriesMetrics;
+import io.wispforest.testccessories.fabric.Testccessories;
+import io.wispforest.testccessories.fabric.accessories.ChainedSlotAccessory;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.GameType;
+
+/**
+ * Tests for the updating of containers whose sizes are changed by the {@link ChainedSlotAccessory} being unequipped
+ * when another container shrinks, along with containers growing past the capacity of their storage.
+ */
+public class ContainerUpdateGameTests implements FabricGameTest {
+
+    private static final ResourceLocation BASE_SIZE = Testccessories.of("gametest/base_size");
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void chainedSlotSizeModifiers(GameTestHelper helper) {
+        var capability = createCapability(helper);
+
+        var ring = getContainer(helper, capability, "ring");
+        var hand = getContainer(helper, capability, "hand");
+        var hat = getContainer(helper, capability, "hat");
+
+        var ringSize = ring.getSize();
+        var handSize = hand.getSize();
+        var hatSize = hat.getSize();
+
+        ring.getAccessories().setItem(ringSize - 1, new ItemStack(Items.GOLD_NUGGET));
+        hand.getAccessories().setItem(handSize - 1, new ItemStack(Items.IRON_NUGGET));
+
+        var updates = AccessoriesMetrics.CONTAINER_UPDATES.current();
+
+        // Ring shrinking unequips the nugget shrinking hand which then unequips the nugget shrinking hat
+        ring.removeModifier(BASE_SIZE);
+        capability.updateContainers();
+
+        assertSize(helper, ring, ringSize - 3);
+        assertSize(helper, hand, handSize - 1);
+        assertSize(helper, hat, hatSize - 1);
+
+        assertUpdates(helper, updates, 3);
+
+        //--
+
+        // Both are changed with the recorded dependency requiring ring to be updated before hand
+        ring.getAccessories().setItem(ringSize - 4, new ItemStack(Items.GOLD_NUGGET));
+
+        hand.addTransientModifier(new AttributeModifier(Testccessories.of("gametest/hand_growth"), 1, AttributeModifier.Operation.ADD_VALUE));
+        ring.addTransientModifier(new AttributeModifier(Testccessories.of("gametest/ring_shrink"), -1, AttributeModifier.Operation.ADD_VALUE));
+
+        updates = AccessoriesMetrics.CONTAINER_UPDATES.current();
+
+        capability.updateContainers();
+
+        assertSize(helper, ring, ringSize - 4);
+        assertSize(helper, hand, handSize - 1);
+
+        assertUpdates(helper, updates, 2);
+
+        helper.succeed();
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void slotSizeModifierCycle(GameTestHelper helper) {
+        var capability = createCapability(helper);
+
+        var ring = getContainer(helper, capability, "ring");
+        var hand = getContainer(helper, capability, "hand");
+
+        // Each shrink of one container unequips a stack shrinking the other
+        for (int i = 1; i <= 3; i++) {
+            ring.getAccessories().setItem(ring.getSize() - i, new ItemStack(Items.GOLD_NUGGET));
+            hand.getAccessories().setItem(hand.getSize() - i, new ItemStack(Items.EMERALD));
+        }
+
+        var cycles = AccessoriesMetrics.CONTAINER_UPDATE_CYCLES.current();
+
+        ring.addTransientModifier(new AttributeModifier(Testccessories.of("gametest/ring_shrink"), -1, AttributeModifier.Operation.ADD_VALUE));
+        capability.updateContainers();
+
+        helper.assertTrue(AccessoriesMetrics.CONTAINER_UPDATE_CYCLES.current() - cycles == 1, "The update cycle between ring and hand was not detected");
+        helper.assertTrue(hand.hasChanged(), "Hand should be left changed to be updated again next update");
+
+        helper.succeed();
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void growPastCapacity(GameTestHelper helper) {
+        var capability = createCapability(helper);
+
+        var ring = getContainer(helper, capability, "ring");
+        var hand = getContainer(helper, capability, "hand");
+
+        var ringSize = ring.getSize();
+
+        var ringStack = new ItemStack(Items.GOLD_INGOT);
+        var handStack = new ItemStack(Items.IRON_INGOT);
+
+        ring.getAccessories().setItem(ringSize - 1, ringStack);
+        hand.getAccessories().setItem(0, handStack);
+
+        var ringAccessories = ring.getAccessories();
+
+        // Moves the slice of ring and every slice laid out after it within the storage of the holder
+        ring.addTransientModifier(new AttributeModifier(Testccessories.of("gametest/ring_growth"), 16, AttributeModifier.Operation.ADD_VALUE));
+        capability.updateContainers();
+
+        assertSize(helper, ring, ringSize + 16);
+
+        helper.assertTrue(ring.getAccessories() == ringAccessories, "Ring container was replaced instead of being grown in place");
+        helper.assertTrue(ring.getAccessories().getItem(ringSize - 1) == ringStack, "Ring stack was lost after growing the container");
+        helper.assertTrue(hand.getAccessories().getItem(0) == handStack, "Hand stack was lost after growing the ring container");
+
+        helper.succeed();
+    }
+
+    private static AccessoriesCapability createCapability(GameTestHelper helper) {
+        var player = helper.makeMockPlayer(GameType.SURVIVAL);
+
+        var capability = AccessoriesCapability.get(player);
+
+        if (capability == null) throw new GameTestAssertException("Unable to get the capability for the mock player");
+
+        // Ensures every container has enough room for the chained stacks
+        for (var slotName : new String[]{"ring", "hand", "hat"}) {
+            getContainer(helper, capability, slotName).addTransientModifier(new AttributeModifier(BASE_SIZE, 3, AttributeModifier.Operation.ADD_VALUE));
+        }
+
+        capability.updateContainers();
+
+        return capability;
+    }
+
+    private static AccessoriesContainer getContainer(GameTestHelper helper, AccessoriesCapability capability, String slotName) {
+        var container = capability.getContainers().get(slotName);
+
+        if (container == null) throw new GameTestAssertException("Unable to find the container for the given slot! [Slot: " + slotName + "]");
+
+        return container;
+    }
+
+    private static void assertSize(GameTestHelper helper, AccessoriesContainer container, int size) {
+        helper.assertTrue(container.getSize() == size, "Container " + container.getSlotName() + " has size " + container.getSize() + " but expected " + size);
+    }
+
+    private static void assertUpdates(GameTestHelper helper, long previousUpdates, int expectedUpdates) {
+        var updates = AccessoriesMetrics.CONTAINER_UPDATES.current() - previousUpdates;
+
+        helper.assertTrue(updates == expectedUpdates, "Expected " + expectedUpdates + " container updates but " + updates + " occurred");
+    }
+}
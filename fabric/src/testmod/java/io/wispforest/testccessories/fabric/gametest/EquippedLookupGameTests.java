@@ -0,0 +1,59 @@
+package io.wispforest.testccessories.fabric.gametest;
+
+import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.impl.AccessoriesCapabilityImpl;
+import io.wispforest.accessories.impl.AccessoriesHolderImpl;
+import io.wispforest.accessories.impl.EquippedIndex;
+import io.wispforest.testccessories.fabric.Testccessories;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.GameType;
+
+/**
+ * Tests that the copied list returned by {@link AccessoriesCapability#getAllEquipped()} and the shared view match the
+ * {@link EquippedIndex} rebuilt from the current containers, with the timings being compared by the jmh benchmark.
+ */
+public class EquippedLookupGameTests implements FabricGameTest {
+
+    private static final int FILLED_SLOTS = 64;
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void equippedLookupMatchesRebuiltIndex(GameTestHelper helper) {
+        var player = helper.makeMockPlayer(GameType.SURVIVAL);
+
+        var capability = (AccessoriesCapabilityImpl) AccessoriesCapability.get(player);
+
+        if (capability == null) throw new GameTestAssertException("Unable to get the capability for the mock player");
+
+        var ring = capability.getContainers().get("ring");
+
+        if (ring == null) throw new GameTestAssertException("Unable to find the ring container");
+
+        ring.addTransientModifier(new AttributeModifier(Testccessories.of("gametest/filled_slots"), FILLED_SLOTS, AttributeModifier.Operation.ADD_VALUE));
+        capability.updateContainers();
+
+        for (int i = 0; i < FILLED_SLOTS; i++) ring.getAccessories().setItem(i, new ItemStack(Items.GOLD_INGOT));
+
+        var holder = (AccessoriesHolderImpl) capability.getHolder();
+
+        var expected = EquippedIndex.create(holder, 0, 0, capability.getContainers().values()).entries();
+
+        helper.assertTrue(expected.size() >= FILLED_SLOTS, "Expected at least " + FILLED_SLOTS + " equipped entries but found " + expected.size());
+        helper.assertTrue(capability.getAllEquipped().equals(expected), "Copied lookup does not match the rebuilt index");
+        helper.assertTrue(capability.getAllEquippedView(true).equals(expected), "Shared lookup does not match the rebuilt index");
+
+        // Changes to the equipped stacks are reflected by the next lookup
+        ring.getAccessories().setItem(0, ItemStack.EMPTY);
+
+        var updated = EquippedIndex.create(holder, 0, 0, capability.getContainers().values()).entries();
+
+        helper.assertTrue(capability.getAllEquippedView(true).equals(updated), "Shared lookup was not updated after a stack was removed");
+
+        helper.succeed();
+    }
+}
@@ -0,0 +1,68 @@
+package io.wispforest.testccessories.fabric.gametest;
+
+import io.wispforest.accessories.api.AccessoriesCapability;
+import io.wispforest.accessories.endec.NbtMapCarrier;
+import io.wispforest.accessories.endec.RegistriesAttribute;
+import io.wispforest.accessories.impl.AccessoriesHolderImpl;
+import io.wispforest.endec.SerializationContext;
+import io.wispforest.testccessories.fabric.Testccessories;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.GameType;
+
+/**
+ * Tests for reading the holder of an entity whose containers have already been created, making sure that only stacks
+ * within slots no longer present are collected as invalid.
+ */
+public class HolderReadGameTests implements FabricGameTest {
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void readAfterInPlaceShrink(GameTestHelper helper) {
+        var player = helper.makeMockPlayer(GameType.SURVIVAL);
+
+        var capability = AccessoriesCapability.get(player);
+
+        if (capability == null) throw new GameTestAssertException("Unable to get the capability for the mock player");
+
+        var ring = capability.getContainers().get("ring");
+
+        if (ring == null) throw new GameTestAssertException("Unable to find the ring container");
+
+        ring.addTransientModifier(new AttributeModifier(Testccessories.of("gametest/ring_growth"), 2, AttributeModifier.Operation.ADD_VALUE));
+        capability.updateContainers();
+
+        // Shrinking in place keeps the backing list sized to the previous capacity
+        ring.removeModifier(Testccessories.of("gametest/ring_growth"));
+        capability.updateContainers();
+
+        var size = ring.getSize();
+
+        helper.assertTrue(size > 0, "The ring container has no slots");
+
+        var stack = new ItemStack(Items.GOLD_INGOT);
+
+        ring.getAccessories().setItem(size - 1, stack);
+
+        var holder = (AccessoriesHolderImpl) capability.getHolder();
+        var ctx = SerializationContext.attributes(RegistriesAttribute.of(player.registryAccess()));
+
+        var carrier = NbtMapCarrier.of();
+
+        holder.write(carrier, ctx);
+
+        // Read back into the existing containers as done when the entity is loaded again
+        holder.read(carrier, ctx);
+        holder.init(capability);
+
+        helper.assertTrue(holder.invalidStacks.isEmpty(), "Found " + holder.invalidStacks.size() + " invalid stacks after reading the holder");
+        helper.assertTrue(ring.getSize() == size, "Ring container has size " + ring.getSize() + " but expected " + size);
+        helper.assertTrue(ItemStack.isSameItemSameComponents(ring.getAccessories().getItem(size - 1), stack), "The equipped stack was lost after reading the holder");
+
+        helper.succeed();
+    }
+}
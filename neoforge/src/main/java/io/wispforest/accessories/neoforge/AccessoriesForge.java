@@ -48,8 +48,10 @@ import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDropsEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
 import net.neoforged.neoforge.registries.RegisterEvent;
 import org.jetbrains.annotations.Nullable;
@@ -110,6 +112,8 @@ public class AccessoriesForge {
         NeoForge.EVENT_BUS.addListener(this::onEntityLoad);
         NeoForge.EVENT_BUS.addListener(this::onStartTracking);
         NeoForge.EVENT_BUS.addListener(this::onWorldTick);
+        NeoForge.EVENT_BUS.addListener(this::onServerTickEnd);
+        NeoForge.EVENT_BUS.addListener(this::onServerStopping);
 
         NeoForge.EVENT_BUS.addListener(this::registerCommands);
 
@@ -179,11 +183,7 @@ public class AccessoriesForge {
             event.registerEntity(CAPABILITY, entityType, (entity, unused) -> {
                 if(!(entity instanceof LivingEntity livingEntity)) return null;
 
-                var slots = EntitySlotLoader.getEntitySlots(livingEntity);
-
-                if(slots.isEmpty()) return null;
-
-                return new AccessoriesCapabilityImpl(livingEntity);
+                return AccessoriesCapability.get(livingEntity);
             });
         }
     }
@@ -235,4 +235,12 @@ public class AccessoriesForge {
     public void onWorldTick(LevelTickEvent.Pre event){
         AccessoriesEventHandler.onWorldTick(event.getLevel());
     }
+
+    public void onServerTickEnd(ServerTickEvent.Post event){
+        AccessoriesEventHandler.onServerTickEnd(event.getServer());
+    }
+
+    public void onServerStopping(ServerStoppingEvent event){
+        AccessoriesEventHandler.onServerStopping(event.getServer());
+    }
 }
@@ -2,12 +2,14 @@ package io.wispforest.accessories.neoforge;
 
 import com.mojang.logging.LogUtils;
 import io.wispforest.accessories.Accessories;
-import io.wispforest.accessories.endec.CodecUtils;
+import io.wispforest.accessories.mixin.ChunkMapAccessor;
+import io.wispforest.accessories.mixin.TrackedEntityAccessor;
 import io.wispforest.accessories.networking.base.BaseNetworkHandler;
 import io.wispforest.accessories.networking.base.HandledPacketPayload;
 import io.wispforest.accessories.networking.AccessoriesPackets;
 import io.wispforest.accessories.networking.base.NetworkBuilderRegister;
 import io.wispforest.endec.Endec;
+import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.neoforged.neoforge.network.PacketDistributor;
@@ -16,6 +18,8 @@ import net.neoforged.neoforge.network.registration.PayloadRegistrar;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -59,7 +63,7 @@ public class AccessoriesForgeNetworkHandler extends BaseNetworkHandler {
     protected <M extends HandledPacketPayload> void registerC2S(Class<M> messageType, Endec<M> endec) {
         var id = getId(messageType);
 
-        this.registrar.playToServer(id, CodecUtils.packetCodec(endec), (arg, iPayloadContext) -> {
+        this.registrar.playToServer(id, this.packetCodec(endec), (arg, iPayloadContext) -> {
             var player = iPayloadContext.player();
 
             iPayloadContext.enqueueWork(() -> arg.handle(player));
@@ -69,7 +73,7 @@ public class AccessoriesForgeNetworkHandler extends BaseNetworkHandler {
     protected <M extends HandledPacketPayload> void registerS2C(Class<M> messageType, Endec<M> endec) {
         var id = getId(messageType);
 
-        this.registrar.playToClient(id, CodecUtils.packetCodec(endec), (arg, iPayloadContext) -> {
+        this.registrar.playToClient(id, this.packetCodec(endec), (arg, iPayloadContext) -> {
             var player = iPayloadContext.player();
 
             iPayloadContext.enqueueWork(() -> arg.handle(player));
@@ -79,7 +83,7 @@ public class AccessoriesForgeNetworkHandler extends BaseNetworkHandler {
     protected <M extends HandledPacketPayload> void registerBoth(Class<M> messageType, Endec<M> endec) {
         var id = getId(messageType);
 
-        this.registrar.playBidirectional(id, CodecUtils.packetCodec(endec), (arg, iPayloadContext) -> {
+        this.registrar.playBidirectional(id, this.packetCodec(endec), (arg, iPayloadContext) -> {
             var player = iPayloadContext.player();
 
             iPayloadContext.enqueueWork(() -> arg.handle(player));
@@ -98,6 +102,29 @@ public class AccessoriesForgeNetworkHandler extends BaseNetworkHandler {
 
     @Override
     public <M extends HandledPacketPayload> void sendToTrackingAndSelf(Entity entity, Supplier<M> packet) {
-        PacketDistributor.sendToPlayersTrackingEntityAndSelf(entity, packet.get());
+        if(entity.level().isClientSide) return;
+
+        var players = new ArrayList<>(getTrackingPlayers(entity));
+
+        if(entity instanceof ServerPlayer serverPlayer) players.add(serverPlayer);
+
+        if(players.isEmpty()) return;
+
+        sendToPlayers(players, packet.get(), entity.registryAccess());
+    }
+
+    @Override
+    public Collection<ServerPlayer> getTrackingPlayers(Entity entity) {
+        if (!(entity.level().getChunkSource() instanceof ServerChunkCache chunkCache)) return List.of();
+
+        var trackedEntity = ((ChunkMapAccessor) chunkCache.chunkMap).accessories$getEntityMap().get(entity.getId());
+
+        if (trackedEntity == null) return List.of();
+
+        var players = new ArrayList<ServerPlayer>();
+
+        for (var connection : ((TrackedEntityAccessor) trackedEntity).accessories$getSeenBy()) players.add(connection.getPlayer());
+
+        return players;
     }
 }
@@ -5,6 +5,7 @@ import io.wispforest.accessories.Accessories;
 import io.wispforest.accessories.api.client.AccessoriesRendererRegistry;
 import io.wispforest.accessories.client.AccessoriesClient;
 import io.wispforest.accessories.client.AccessoriesRenderLayer;
+import io.wispforest.accessories.client.SyncDataCache;
 import io.wispforest.accessories.compat.AccessoriesConfig;
 import io.wispforest.accessories.impl.AccessoriesEventHandler;
 import me.shedaniel.autoconfig.AutoConfig;
@@ -53,6 +54,7 @@ public class AccessoriesClientForge {
 
         NeoForge.EVENT_BUS.addListener(AccessoriesClientForge::clientTick);
         NeoForge.EVENT_BUS.addListener(AccessoriesClientForge::itemTooltipCallback);
+        NeoForge.EVENT_BUS.addListener((ClientPlayerNetworkEvent.LoggingOut event) -> SyncDataCache.reset());
 
         ModLoadingContext.get().registerExtensionPoint(IConfigScreenFactory.class, () -> {
             return (minecraft, parent) -> AutoConfig.getConfigScreen(AccessoriesConfig.class, parent).get();